@@ -0,0 +1,51 @@
+package com.example.catalog.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRODUCTS_BY_SLUG = "productsBySlug";
+    public static final String PUBLIC_SEARCH_PAGES = "publicSearchPages";
+    public static final String PRODUCT_COUNTS = "productCounts";
+
+    /**
+     * Caches are registered up front so actuator binds their hit, miss, size and
+     * eviction metrics at startup ({@code /actuator/metrics/cache.gets} and friends).
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${catalog.cache.product-slug.max-size:10000}") long slugMaxSize,
+            @Value("${catalog.cache.product-slug.ttl:10m}") Duration slugTtl,
+            @Value("${catalog.cache.search-pages.max-size:2000}") long searchPagesMaxSize,
+            @Value("${catalog.cache.search-pages.ttl:5m}") Duration searchPagesTtl,
+            @Value("${catalog.cache.product-counts.max-size:5000}") long countsMaxSize,
+            @Value("${catalog.cache.product-counts.ttl:10m}") Duration countsTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PRODUCTS_BY_SLUG, Caffeine.newBuilder()
+                .maximumSize(slugMaxSize)
+                .expireAfterWrite(slugTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(PUBLIC_SEARCH_PAGES, Caffeine.newBuilder()
+                .maximumSize(searchPagesMaxSize)
+                .expireAfterWrite(searchPagesTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(PRODUCT_COUNTS, Caffeine.newBuilder()
+                .maximumSize(countsMaxSize)
+                .expireAfterWrite(countsTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.catalog.config.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Builds stale-while-revalidate caches. Past the soft TTL an entry is still returned
+ * immediately while Caffeine reloads it on a bounded refresh pool; only past the hard TTL
+ * does a caller block on the load. When the pool queue is full the refresh is dropped
+ * (the entry keeps being served) instead of running on the caller's thread.
+ */
+@Slf4j
+@Component
+public class RefreshingCacheFactory {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration softTtl;
+    private final Duration hardTtl;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public RefreshingCacheFactory(MeterRegistry meterRegistry,
+                                  @Value("${catalog.cache.refresh.enabled:true}") boolean enabled,
+                                  @Value("${catalog.cache.refresh.soft-ttl:5s}") Duration softTtl,
+                                  @Value("${catalog.cache.refresh.hard-ttl:60s}") Duration hardTtl,
+                                  @Value("${catalog.cache.refresh.threads:2}") int threads,
+                                  @Value("${catalog.cache.refresh.queue-capacity:100}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.softTtl = softTtl;
+        this.hardTtl = hardTtl;
+        this.refreshExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("cache-refresh-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns {@code null} when refreshing caches are disabled, in which case callers load directly.
+     */
+    public <K, V> LoadingCache<K, V> build(String name, long maxSize, CacheLoader<K, V> loader) {
+        if (!enabled) {
+            return null;
+        }
+        LoadingCache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(softTtl)
+                .expireAfterWrite(hardTtl)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(loader);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        log.info("Stale-while-revalidate cache {} ready (soft TTL {}, hard TTL {})", name, softTtl, hardTtl);
+        return cache;
+    }
+
+    /**
+     * Reloads the entries whose key matches {@code affected} on the refresh pool; readers keep
+     * getting the current value until the reload lands instead of blocking on it. Entries the
+     * pool has no room for are invalidated, so they are reloaded by their next reader. The
+     * returned future completes once every scheduled reload has.
+     */
+    public <K, V> CompletableFuture<Void> refresh(LoadingCache<K, V> cache, Predicate<K> affected) {
+        List<CompletableFuture<V>> reloads = new ArrayList<>();
+        for (K key : List.copyOf(cache.asMap().keySet())) {
+            if (!affected.test(key)) {
+                continue;
+            }
+            try {
+                reloads.add(cache.refresh(key));
+            } catch (RejectedExecutionException e) {
+                cache.invalidate(key);
+            }
+        }
+        return CompletableFuture.allOf(reloads.toArray(CompletableFuture[]::new));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.FORBIDDEN)
 public class ForbiddenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
     public ForbiddenException(String message) {
         super(message);
     }
@@ -4,6 +4,8 @@ package com.example.catalog.exception;
  * Exception thrown when a requested resource is not found.
  */
 public class ResourceNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
     public ResourceNotFoundException(String message) {
         super(message);
     }
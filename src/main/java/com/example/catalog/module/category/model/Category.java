@@ -35,6 +35,7 @@ public class Category {
     private String iconUrl;
 
     @Column(nullable = false)
+    @Builder.Default
     private boolean active = true;
 
     @CreationTimestamp
@@ -2,10 +2,20 @@ package com.example.catalog.module.category.repository;
 
 import com.example.catalog.module.category.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
     List<Category> findAllByActiveTrue();
+
+    @Query("select c.id from Category c")
+    Set<UUID> findAllIds();
+
+    @Query("select max(c.updatedAt) from Category c")
+    Optional<LocalDateTime> findLastUpdatedAt();
 }
@@ -5,6 +5,9 @@ import com.example.catalog.module.category.dto.response.CategoryResponse;
 import com.example.catalog.module.category.mapper.CategoryMapper;
 import com.example.catalog.module.category.model.Category;
 import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.config.cache.RefreshingCacheFactory;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,8 +20,23 @@ public class CategoryService {
 
     private final CategoryRepository repository;
     private final CategoryMapper mapper;
+    private final RefreshingCacheFactory refreshingCacheFactory;
 
+    private LoadingCache<Boolean, List<CategoryResponse>> publicCategories;
+
+    @PostConstruct
+    void initPublicCategoriesCache() {
+        publicCategories = refreshingCacheFactory.build("publicCategories", 1, key -> loadAllPublic());
+    }
+
+    /**
+     * Served stale-while-revalidate when {@code catalog.cache.refresh.enabled}.
+     */
     public List<CategoryResponse> findAllPublic() {
+        return publicCategories != null ? publicCategories.get(Boolean.TRUE) : loadAllPublic();
+    }
+
+    private List<CategoryResponse> loadAllPublic() {
         return repository.findAllByActiveTrue().stream()
                 .map(mapper::toResponse)
                 .toList();
@@ -32,6 +50,7 @@ public class CategoryService {
 
     public CategoryResponse create(CategoryRequest request) {
         Category saved = repository.save(mapper.toEntity(request));
+        refreshPublicCategories();
         return mapper.toResponse(saved);
     }
 
@@ -39,4 +58,10 @@ public class CategoryService {
         return repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
     }
+
+    private void refreshPublicCategories() {
+        if (publicCategories != null) {
+            refreshingCacheFactory.refresh(publicCategories, key -> true);
+        }
+    }
 }
@@ -2,8 +2,11 @@ package com.example.catalog.module.order.controller;
 
 
 import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.response.StockHoldResponseDTO;
 import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
 import com.example.catalog.module.order.service.OrderService;
+import com.example.catalog.module.order.service.StockHoldService;
+import com.example.catalog.module.product.dto.response.CursorSliceResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/orders")
@@ -20,6 +24,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final StockHoldService stockHoldService;
 
     @PostMapping
     public ResponseEntity<OrderResponseDTO> createOrder(@Valid @RequestBody OrderRequestDTO dto) {
@@ -27,9 +32,29 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/holds")
+    public ResponseEntity<StockHoldResponseDTO> holdStock(@Valid @RequestBody OrderRequestDTO dto) {
+        StockHoldResponseDTO response = stockHoldService.hold(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/holds/{id}/confirm")
+    public ResponseEntity<OrderResponseDTO> confirmHold(@PathVariable UUID id) {
+        OrderResponseDTO response = stockHoldService.confirm(id);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/holds/{id}/release")
+    public ResponseEntity<Void> releaseHold(@PathVariable UUID id) {
+        stockHoldService.release(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/me")
-    public ResponseEntity<List<OrderResponseDTO>> getMyOrders() {
-        List<OrderResponseDTO> orders = orderService.getOrdersForCurrentUser();
+    public ResponseEntity<CursorSliceResponse<OrderResponseDTO>> getMyOrders(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<OrderResponseDTO> orders = orderService.getOrdersForCurrentUser(after, size);
         return ResponseEntity.ok(orders);
     }
 
@@ -42,14 +67,14 @@ public class OrderController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR', 'CUSTOMER')")
-    public ResponseEntity<OrderResponseDTO> getOrderById(@PathVariable Long id) {
+    public ResponseEntity<OrderResponseDTO> getOrderById(@PathVariable UUID id) {
         OrderResponseDTO order = orderService.getOrderById(id);
         return ResponseEntity.ok(order);
     }
 
     @PatchMapping("/{id}/cancel")
     @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
-    public ResponseEntity<Void> cancelOrder(@PathVariable Long id) {
+    public ResponseEntity<Void> cancelOrder(@PathVariable UUID id) {
         orderService.cancelOrder(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,21 @@
+package com.example.catalog.module.order.dto.response;
+
+import com.example.catalog.module.order.model.StockHold;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockHoldResponseDTO {
+    private UUID id;
+    private StockHold.Status status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private List<OrderItemResponseDTO> items;
+}
@@ -0,0 +1,172 @@
+package com.example.catalog.module.order.hold;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck): schedules and cancels timeouts in O(1) and
+ * expires them in O(1) amortized, however many are pending.
+ * <p>
+ * Level {@code k} has 64 slots of {@code 64^k} ticks each. A timeout goes into the lowest
+ * level whose span covers its delay; whenever a level wraps, the current slot of the level
+ * above is cascaded down, so every timeout is moved at most once per level before it
+ * expires in a level-0 slot. Slots are intrusive doubly linked lists, so cancelling only
+ * unlinks the entry.
+ * <p>
+ * Time only moves when the owner calls {@link #advanceTo}; the wheel never polls. All methods
+ * are synchronized and do constant work per call or per expired/cascaded entry.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Timeout<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.wheels = (Timeout<T>[][]) new Timeout<?>[LEVELS][SLOTS];
+        for (Timeout<T>[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = Timeout.sentinel();
+            }
+        }
+    }
+
+    /**
+     * Schedules {@code payload} to expire at {@code deadlineMillis}, rounded up to the next
+     * tick so it never fires early. A deadline already passed expires on the next advance.
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        long deadlineTick = Math.max(currentTick + 1, Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis));
+        Timeout<T> timeout = new Timeout<>(payload, deadlineTick);
+        add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Removes a pending timeout; false when it already expired or was cancelled.
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.prev == null) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel tick by tick up to {@code nowMillis} and returns the payloads that
+     * expired, earliest tick first.
+     */
+    public synchronized List<T> advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            Timeout<T> head = wheels[0][(int) (currentTick & MASK)];
+            for (Timeout<T> timeout = head.next; timeout != head; ) {
+                Timeout<T> next = timeout.next;
+                timeout.unlink();
+                size--;
+                expired.add(timeout.payload);
+                timeout = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * When level {@code k-1} wraps, empties the current slot of level {@code k} into the
+     * levels below; continues upward while the level just cascaded also wrapped.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            Timeout<T> head = wheels[level][(int) ((currentTick >>> (SLOT_BITS * level)) & MASK)];
+            for (Timeout<T> timeout = head.next; timeout != head; ) {
+                Timeout<T> next = timeout.next;
+                timeout.unlink();
+                add(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void add(Timeout<T> timeout) {
+        long delay = timeout.deadlineTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delay < 1L << (SLOT_BITS * (level + 1))) {
+                wheels[level][(int) ((timeout.deadlineTick >>> (SLOT_BITS * level)) & MASK)].append(timeout);
+                return;
+            }
+        }
+
+        // beyond the top level: park in the farthest slot and re-file when it cascades
+        int top = LEVELS - 1;
+        long parkedTick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        wheels[top][(int) ((parkedTick >>> (SLOT_BITS * top)) & MASK)].append(timeout);
+    }
+
+    /**
+     * Handle to a scheduled payload, for {@link #cancel}.
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private static <T> Timeout<T> sentinel() {
+            Timeout<T> head = new Timeout<>(null, -1);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        private void append(Timeout<T> timeout) {
+            timeout.prev = prev;
+            timeout.next = this;
+            prev.next = timeout;
+            prev = timeout;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
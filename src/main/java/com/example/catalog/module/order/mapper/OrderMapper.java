@@ -2,12 +2,18 @@ package com.example.catalog.module.order.mapper;
 
 import com.example.catalog.module.order.dto.response.OrderItemResponseDTO;
 import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.response.StockHoldResponseDTO;
 import com.example.catalog.module.order.model.Order;
 import com.example.catalog.module.order.model.OrderItem;
+import com.example.catalog.module.order.model.StockHold;
+import com.example.catalog.module.order.model.StockHoldItem;
+import com.example.catalog.module.product.model.Product;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +29,27 @@ public class OrderMapper {
                 .build();
     }
 
+    public StockHoldResponseDTO toHoldDTO(StockHold hold, Map<UUID, Product> products) {
+        return StockHoldResponseDTO.builder()
+                .id(hold.getId())
+                .status(hold.getStatus())
+                .createdAt(hold.getCreatedAt())
+                .expiresAt(hold.getExpiresAt())
+                .items(hold.getItems().stream().map(item -> toItemDTO(item, products.get(item.getProductId()))).toList())
+                .build();
+    }
+
+    private OrderItemResponseDTO toItemDTO(StockHoldItem item, Product product) {
+        BigDecimal total = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+        return OrderItemResponseDTO.builder()
+                .productId(item.getProductId())
+                .productName(product.getName())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .total(total)
+                .build();
+    }
+
     private OrderItemResponseDTO toItemDTO(OrderItem item) {
         BigDecimal total = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
         return OrderItemResponseDTO.builder()
@@ -0,0 +1,9 @@
+package com.example.catalog.module.order.model;
+
+import java.util.UUID;
+
+/**
+ * Total quantity of a product across a set of holds.
+ */
+public record HeldQuantity(UUID productId, Long quantity) {
+}
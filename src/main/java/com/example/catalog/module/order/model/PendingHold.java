@@ -0,0 +1,10 @@
+package com.example.catalog.module.order.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A hold still waiting for confirmation, as needed to schedule its expiry.
+ */
+public record PendingHold(UUID id, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,60 @@
+package com.example.catalog.module.order.model;
+
+import com.example.catalog.module.auth.model.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stock taken out of products while the customer pays. A hold is confirmed into an
+ * {@link Order}, released by the customer, or expires at {@link #expiresAt}; releasing and
+ * expiring give the stock back.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "stock_holds", indexes = {
+        @Index(name = "idx_stock_holds_status_expires_at", columnList = "status, expires_at")
+})
+public class StockHold {
+
+    public enum Status {
+        HELD, CONFIRMED, RELEASED, EXPIRED
+    }
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ElementCollection
+    @CollectionTable(name = "stock_hold_items", joinColumns = @JoinColumn(name = "hold_id"))
+    @Builder.Default
+    private List<StockHoldItem> items = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "order_id")
+    private UUID orderId;
+}
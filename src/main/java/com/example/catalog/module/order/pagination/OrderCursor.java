@@ -0,0 +1,42 @@
+package com.example.catalog.module.order.pagination;
+
+import com.example.catalog.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for a customer's order history: the {@code (createdAt, id)} of the
+ * last order on the previous page. The next page seeks past it on the
+ * {@code idx_orders_user_created_at_id} index instead of using OFFSET.
+ */
+public record OrderCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Decodes {@code token}; {@code null} when absent, which starts at the newest order.
+     */
+    public static OrderCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new OrderCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
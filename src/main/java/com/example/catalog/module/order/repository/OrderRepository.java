@@ -2,10 +2,54 @@ package com.example.catalog.module.order.repository;
 
 import com.example.catalog.module.auth.model.User;
 import com.example.catalog.module.order.model.Order;
+import com.example.catalog.module.order.pagination.OrderCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findByUser(User user);
-}
\ No newline at end of file
+public interface OrderRepository extends JpaRepository<Order, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") UUID id);
+    @Query("""
+            select new com.example.catalog.module.order.pagination.OrderCursor(o.createdAt, o.id)
+            from Order o
+            where o.user = :user
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OrderCursor> findPageKeys(@Param("user") User user, Pageable pageable);
+
+    @Query("""
+            select new com.example.catalog.module.order.pagination.OrderCursor(o.createdAt, o.id)
+            from Order o
+            where o.user = :user
+              and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OrderCursor> findPageKeysBefore(@Param("user") User user,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    /**
+     * Loads the orders with their items and products in one query; the ids come from a
+     * page query, so the join is bounded and no collection is paginated in memory.
+     */
+    @Query("""
+            select distinct o from Order o
+            left join fetch o.items i
+            left join fetch i.product
+            where o.id in :ids
+            """)
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<UUID> ids);
+}
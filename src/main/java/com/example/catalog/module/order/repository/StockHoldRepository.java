@@ -0,0 +1,59 @@
+package com.example.catalog.module.order.repository;
+
+import com.example.catalog.module.order.model.HeldQuantity;
+import com.example.catalog.module.order.model.PendingHold;
+import com.example.catalog.module.order.model.StockHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StockHoldRepository extends JpaRepository<StockHold, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from StockHold h where h.id = :id")
+    Optional<StockHold> findByIdForUpdate(UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select h from StockHold h
+            where h.id in :ids and h.status = com.example.catalog.module.order.model.StockHold$Status.HELD
+            order by h.id
+            """)
+    List<StockHold> findHeldForUpdate(Collection<UUID> ids);
+
+    @Query("""
+            select new com.example.catalog.module.order.model.HeldQuantity(i.productId, sum(i.quantity))
+            from StockHold h
+            join h.items i
+            where h.id in :ids
+            group by i.productId
+            """)
+    List<HeldQuantity> sumQuantitiesByProduct(Collection<UUID> ids);
+
+    @Modifying
+    @Query("update StockHold h set h.status = :status where h.id in :ids")
+    int updateStatus(Collection<UUID> ids, StockHold.Status status);
+
+    @Query("""
+            select new com.example.catalog.module.order.model.PendingHold(h.id, h.expiresAt)
+            from StockHold h
+            where h.status = com.example.catalog.module.order.model.StockHold$Status.HELD
+            """)
+    List<PendingHold> findPending();
+
+    @Query("""
+            select h.id from StockHold h
+            where h.status = com.example.catalog.module.order.model.StockHold$Status.HELD and h.expiresAt < :before
+            order by h.expiresAt
+            """)
+    List<UUID> findOverdueIds(LocalDateTime before, Pageable limit);
+}
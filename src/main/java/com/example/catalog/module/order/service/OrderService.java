@@ -1,5 +1,6 @@
 package com.example.catalog.module.order.service;
 
+import com.example.catalog.exception.ConflictException;
 import com.example.catalog.exception.ForbiddenException;
 import com.example.catalog.exception.NotFoundException;
 import com.example.catalog.module.auth.model.User;
@@ -10,33 +11,53 @@ import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
 import com.example.catalog.module.order.mapper.OrderMapper;
 import com.example.catalog.module.order.model.Order;
 import com.example.catalog.module.order.model.OrderItem;
+import com.example.catalog.module.order.pagination.OrderCursor;
 import com.example.catalog.module.order.repository.OrderRepository;
+import com.example.catalog.module.product.dto.response.CursorSliceResponse;
+import com.example.catalog.module.product.event.ProductSalesChangedEvent;
 import com.example.catalog.module.product.model.Product;
 import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductStockService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final ProductStockService productStockService;
     private final UserService userService;
     private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Creates the order and takes its items out of stock in the same transaction. The order is
+     * flushed before the stock rows are locked, so the locks are only held until commit.
+     */
     @Transactional
     public OrderResponseDTO createOrder(OrderRequestDTO dto) {
         User user = userService.getAuthenticatedUser();
+        Map<UUID, Product> products = findActiveProducts(dto.getItems());
         List<OrderItem> items = new ArrayList<>();
 
         for (OrderItemRequestDTO itemDTO : dto.getItems()) {
-            Product product = productRepository.findByIdAndActiveTrue(itemDTO.getProductId())
-                    .orElseThrow(() -> new NotFoundException("Product not found or inactive: " + itemDTO.getProductId()));
+            Product product = products.get(itemDTO.getProductId());
 
             OrderItem item = OrderItem.builder()
                     .product(product)
@@ -47,6 +68,35 @@ public class OrderService {
             items.add(item);
         }
 
+        Order order = place(user, items);
+        productStockService.reserve(quantitiesOf(dto.getItems()));
+
+        return orderMapper.toDTO(order);
+    }
+
+    /**
+     * Loads the active products referenced by {@code items} with one query.
+     */
+    Map<UUID, Product> findActiveProducts(List<OrderItemRequestDTO> items) {
+        Set<UUID> productIds = items.stream()
+                .map(OrderItemRequestDTO::getProductId)
+                .collect(Collectors.toSet());
+        Map<UUID, Product> products = productRepository.findByIdInAndActiveTrue(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        for (OrderItemRequestDTO itemDTO : items) {
+            if (!products.containsKey(itemDTO.getProductId())) {
+                throw new NotFoundException("Product not found or inactive: " + itemDTO.getProductId());
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Saves and flushes a new order with {@code items}, without touching stock, and publishes
+     * the units it sells.
+     */
+    Order place(User user, List<OrderItem> items) {
         Order order = Order.builder()
                 .user(user)
                 .items(new ArrayList<>())
@@ -57,15 +107,50 @@ public class OrderService {
             order.getItems().add(item);
         }
 
-        orderRepository.save(order);
+        Order saved = orderRepository.saveAndFlush(order);
+        eventPublisher.publishEvent(new ProductSalesChangedEvent(unitsOf(items, 1)));
+        return saved;
+    }
 
-        return orderMapper.toDTO(order);
+    private static Map<UUID, Long> unitsOf(List<OrderItem> items, int sign) {
+        return items.stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), item -> (long) sign * item.getQuantity(), Long::sum));
     }
 
-    public List<OrderResponseDTO> getOrdersForCurrentUser() {
+    static Map<UUID, Integer> quantitiesOf(List<OrderItemRequestDTO> items) {
+        return items.stream()
+                .collect(Collectors.toMap(OrderItemRequestDTO::getProductId, OrderItemRequestDTO::getQuantity, Integer::sum));
+    }
+
+    /**
+     * One page of the current user's orders, newest first, with items and product names.
+     * Costs two queries whatever the history length: a keyset seek on
+     * {@code (createdAt, id)} for the page's ids, then one fetch join for those orders.
+     */
+    public CursorSliceResponse<OrderResponseDTO> getOrdersForCurrentUser(String after, int size) {
+        OrderCursor cursor = OrderCursor.decode(after);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
         User user = userService.getAuthenticatedUser();
-        List<Order> orders = orderRepository.findByUser(user);
-        return orders.stream().map(orderMapper::toDTO).toList();
+
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<OrderCursor> keys = cursor == null
+                ? orderRepository.findPageKeys(user, page)
+                : orderRepository.findPageKeysBefore(user, cursor.createdAt(), cursor.id(), page);
+        boolean hasNext = keys.size() > limit;
+        if (hasNext) {
+            keys = keys.subList(0, limit);
+        }
+        if (keys.isEmpty()) {
+            return new CursorSliceResponse<>(List.of(), limit, false, null);
+        }
+
+        Map<UUID, Order> orders = orderRepository.findWithItemsByIdIn(keys.stream().map(OrderCursor::id).toList()).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<OrderResponseDTO> content = keys.stream()
+                .map(key -> orderMapper.toDTO(orders.get(key.id())))
+                .toList();
+        String nextCursor = hasNext ? keys.get(keys.size() - 1).encode() : null;
+        return new CursorSliceResponse<>(content, limit, hasNext, nextCursor);
     }
 
     public List<OrderResponseDTO> getAllOrders() {
@@ -74,7 +159,7 @@ public class OrderService {
                 .toList();
     }
 
-    public OrderResponseDTO getOrderById(Long id) {
+    public OrderResponseDTO getOrderById(UUID id) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Order not found"));
 
@@ -88,9 +173,13 @@ public class OrderService {
         return orderMapper.toDTO(order);
     }
 
+    /**
+     * Cancels the order and gives its items back to stock. The order row is locked and must not
+     * be cancelled yet, so concurrent cancels cannot restore the stock twice.
+     */
     @Transactional
-    public void cancelOrder(Long id) {
-        Order order = orderRepository.findById(id)
+    public void cancelOrder(UUID id) {
+        Order order = orderRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new NotFoundException("Order not found"));
 
         User current = userService.getAuthenticatedUser();
@@ -99,6 +188,13 @@ public class OrderService {
             throw new ForbiddenException("Access denied");
         }
 
+        if (order.isCancelled()) {
+            throw new ConflictException("Order is already cancelled");
+        }
+
         order.setCancelled(true);
+        productStockService.restore(order.getItems().stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), OrderItem::getQuantity, Integer::sum)));
+        eventPublisher.publishEvent(new ProductSalesChangedEvent(unitsOf(order.getItems(), -1)));
     }
 }
\ No newline at end of file
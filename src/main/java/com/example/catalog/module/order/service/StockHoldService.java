@@ -0,0 +1,304 @@
+package com.example.catalog.module.order.service;
+
+import com.example.catalog.exception.ConflictException;
+import com.example.catalog.exception.ForbiddenException;
+import com.example.catalog.exception.NotFoundException;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.service.UserService;
+import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.response.StockHoldResponseDTO;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.hold.HierarchicalTimingWheel;
+import com.example.catalog.module.order.mapper.OrderMapper;
+import com.example.catalog.module.order.model.HeldQuantity;
+import com.example.catalog.module.order.model.Order;
+import com.example.catalog.module.order.model.OrderItem;
+import com.example.catalog.module.order.model.PendingHold;
+import com.example.catalog.module.order.model.StockHold;
+import com.example.catalog.module.order.model.StockHoldItem;
+import com.example.catalog.module.order.repository.StockHoldRepository;
+import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductStockService;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds stock for a checkout while the customer pays.
+ * <p>
+ * Placing a hold takes the stock right away, like an order. Confirming turns the hold into an
+ * {@link Order} at the prices quoted when it was placed; releasing or letting it run past
+ * {@code catalog.holds.ttl} gives the stock back.
+ * <p>
+ * Expiry is driven by an in-process {@link HierarchicalTimingWheel} instead of querying for
+ * overdue holds: scheduling and cancelling a hold are O(1), and each tick hands the holds
+ * that came due to one transaction per {@code release-batch-size} that marks them expired
+ * and returns their stock in a single batched update. Pending holds are re-scheduled from
+ * the database at startup. A wheel only knows the holds of its own instance, so holds placed
+ * by an instance that went away are caught by a sweep every {@code sweep-interval} that
+ * expires held rows overdue by more than {@code sweep-grace}. Every transition locks the hold
+ * row and requires it to still be held, so a confirm racing an expiry (or another instance's
+ * wheel or sweep) resolves to one winner.
+ */
+@Slf4j
+@Service
+public class StockHoldService {
+
+    private final StockHoldRepository stockHoldRepository;
+    private final OrderService orderService;
+    private final ProductRepository productRepository;
+    private final ProductStockService productStockService;
+    private final UserService userService;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration tick;
+    private final int releaseBatchSize;
+    private final Duration sweepInterval;
+    private final Duration sweepGrace;
+    private final HierarchicalTimingWheel<UUID> wheel;
+    private final Map<UUID, HierarchicalTimingWheel.Timeout<UUID>> timeouts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-hold-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StockHoldService(StockHoldRepository stockHoldRepository,
+                            OrderService orderService,
+                            ProductRepository productRepository,
+                            ProductStockService productStockService,
+                            UserService userService,
+                            OrderMapper orderMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${catalog.holds.ttl:15m}") Duration ttl,
+                            @Value("${catalog.holds.tick:100ms}") Duration tick,
+                            @Value("${catalog.holds.release-batch-size:500}") int releaseBatchSize,
+                            @Value("${catalog.holds.sweep-interval:1m}") Duration sweepInterval,
+                            @Value("${catalog.holds.sweep-grace:1m}") Duration sweepGrace) {
+        this.stockHoldRepository = stockHoldRepository;
+        this.orderService = orderService;
+        this.productRepository = productRepository;
+        this.productStockService = productStockService;
+        this.userService = userService;
+        this.orderMapper = orderMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.tick = tick;
+        this.releaseBatchSize = releaseBatchSize;
+        this.sweepInterval = sweepInterval;
+        this.sweepGrace = sweepGrace;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        List<PendingHold> pending = stockHoldRepository.findPending();
+        pending.forEach(hold -> schedule(hold.id(), hold.expiresAt()));
+        log.info("Scheduled expiry of {} pending stock holds", pending.size());
+
+        long interval = tick.toMillis();
+        executor.scheduleAtFixedRate(this::expireOrLog, interval, interval, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::sweepOrLog, sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Transactional
+    public StockHoldResponseDTO hold(OrderRequestDTO dto) {
+        User user = userService.getAuthenticatedUser();
+        Map<UUID, Product> products = orderService.findActiveProducts(dto.getItems());
+
+        List<StockHoldItem> items = new ArrayList<>();
+        for (OrderItemRequestDTO itemDTO : dto.getItems()) {
+            Product product = products.get(itemDTO.getProductId());
+            items.add(new StockHoldItem(product.getId(), itemDTO.getQuantity(), product.getPrice()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        StockHold hold = stockHoldRepository.saveAndFlush(StockHold.builder()
+                .user(user)
+                .items(items)
+                .status(StockHold.Status.HELD)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+        productStockService.reserve(OrderService.quantitiesOf(dto.getItems()));
+
+        afterCommit(() -> schedule(hold.getId(), hold.getExpiresAt()));
+        return orderMapper.toHoldDTO(hold, products);
+    }
+
+    @Transactional
+    public OrderResponseDTO confirm(UUID id) {
+        StockHold hold = lockOwnHold(id);
+        if (!hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new ConflictException("Stock hold has expired");
+        }
+
+        Set<UUID> productIds = hold.getItems().stream().map(StockHoldItem::getProductId).collect(Collectors.toSet());
+        Map<UUID, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<OrderItem> items = hold.getItems().stream()
+                .map(item -> OrderItem.builder()
+                        .product(products.get(item.getProductId()))
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Order order = orderService.place(hold.getUser(), items);
+        hold.setStatus(StockHold.Status.CONFIRMED);
+        hold.setOrderId(order.getId());
+
+        afterCommit(() -> cancel(id));
+        return orderMapper.toDTO(order);
+    }
+
+    @Transactional
+    public void release(UUID id) {
+        lockOwnHold(id);
+        releaseHeld(List.of(id), StockHold.Status.RELEASED);
+        afterCommit(() -> cancel(id));
+    }
+
+    /**
+     * Advances the wheel to now and expires the holds that came due, in batches.
+     */
+    public int expireDue() {
+        List<UUID> due = wheel.advanceTo(System.currentTimeMillis());
+        due.forEach(timeouts::remove);
+
+        int expired = 0;
+        for (int from = 0; from < due.size(); from += releaseBatchSize) {
+            List<UUID> batch = due.subList(from, Math.min(from + releaseBatchSize, due.size()));
+            try {
+                expired += transactionTemplate.execute(status -> releaseHeld(batch, StockHold.Status.EXPIRED));
+            } catch (RuntimeException e) {
+                log.warn("Expiring {} stock holds failed, retrying on the next tick", batch.size(), e);
+                long retryAt = System.currentTimeMillis() + tick.toMillis();
+                batch.forEach(id -> timeouts.put(id, wheel.schedule(id, retryAt)));
+            }
+        }
+        if (expired > 0) {
+            log.info("Expired {} stock holds", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Expires the held rows overdue by more than {@code sweep-grace}, whichever instance placed
+     * them, in batches.
+     */
+    public int sweepOverdue() {
+        int expired = 0;
+        List<UUID> overdue;
+        do {
+            LocalDateTime before = LocalDateTime.now().minus(sweepGrace);
+            overdue = stockHoldRepository.findOverdueIds(before, PageRequest.of(0, releaseBatchSize));
+            if (!overdue.isEmpty()) {
+                List<UUID> batch = overdue;
+                expired += transactionTemplate.execute(status -> releaseHeld(batch, StockHold.Status.EXPIRED));
+                batch.forEach(this::cancel);
+            }
+        } while (overdue.size() == releaseBatchSize);
+
+        if (expired > 0) {
+            log.info("Swept {} overdue stock holds", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Moves the holds among {@code ids} that are still held to {@code status} and returns
+     * their stock, summed per product, in one batched update.
+     */
+    private int releaseHeld(Collection<UUID> ids, StockHold.Status status) {
+        List<UUID> held = stockHoldRepository.findHeldForUpdate(ids).stream().map(StockHold::getId).toList();
+        if (held.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Integer> quantities = stockHoldRepository.sumQuantitiesByProduct(held).stream()
+                .collect(Collectors.toMap(HeldQuantity::productId, quantity -> quantity.quantity().intValue()));
+        stockHoldRepository.updateStatus(held, status);
+        productStockService.restore(quantities);
+        return held.size();
+    }
+
+    private StockHold lockOwnHold(UUID id) {
+        StockHold hold = stockHoldRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new NotFoundException("Stock hold not found"));
+
+        User current = userService.getAuthenticatedUser();
+        if (!hold.getUser().getId().equals(current.getId())) {
+            throw new ForbiddenException("Access denied");
+        }
+        if (hold.getStatus() != StockHold.Status.HELD) {
+            throw new ConflictException("Stock hold is already " + hold.getStatus().name().toLowerCase(Locale.ROOT));
+        }
+        return hold;
+    }
+
+    private void schedule(UUID id, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        timeouts.put(id, wheel.schedule(id, deadline));
+    }
+
+    private void cancel(UUID id) {
+        HierarchicalTimingWheel.Timeout<UUID> timeout = timeouts.remove(id);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    private void expireOrLog() {
+        try {
+            expireDue();
+        } catch (RuntimeException e) {
+            log.warn("Expiring stock holds failed", e);
+        }
+    }
+
+    private void sweepOrLog() {
+        try {
+            sweepOverdue();
+        } catch (RuntimeException e) {
+            log.warn("Sweeping overdue stock holds failed", e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
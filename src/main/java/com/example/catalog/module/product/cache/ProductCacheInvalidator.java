@@ -0,0 +1,44 @@
+package com.example.catalog.module.product.cache;
+
+import com.example.catalog.config.cache.CacheConfig;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.event.ProductStockChangedEvent;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts product cache entries once the write that changed them has committed.
+ * A rolled back write never evicts, and a read that loaded the old row while the
+ * transaction was running is discarded because Caffeine serializes the eviction
+ * with the in-flight load of the same key.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.product());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        evict(event.product());
+    }
+
+    private void evict(ProductSnapshot product) {
+        Cache slugCache = cacheManager.getCache(CacheConfig.PRODUCTS_BY_SLUG);
+        if (slugCache != null && product.slug() != null) {
+            slugCache.evict(product.slug());
+            log.debug("Evicted product slug {} from cache", product.slug());
+        }
+    }
+}
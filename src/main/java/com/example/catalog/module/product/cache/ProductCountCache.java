@@ -0,0 +1,78 @@
+package com.example.catalog.module.product.cache;
+
+import com.example.catalog.config.cache.CacheConfig;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.event.ProductStockChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Total counts of active products per filter signature. Every committed product write bumps
+ * the catalog version, and an entry is only used while its version is current. Stock-only
+ * writes bump a separate stock version that only counts filtering on {@code minStock} check,
+ * so orders do not invalidate the other counts. The versions are read before counting, so a
+ * write that commits during the count leaves the entry stale.
+ */
+@Component
+public class ProductCountCache {
+
+    private final Cache<Object, Object> counts;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong stockVersion = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public ProductCountCache(CacheManager cacheManager) {
+        this.counts = (Cache<Object, Object>) Objects.requireNonNull(
+                cacheManager.getCache(CacheConfig.PRODUCT_COUNTS)).getNativeCache();
+    }
+
+    public long get(ProductFilterRequest filters, LongSupplier count) {
+        Key key = Key.of(filters);
+        long version = catalogVersion.get();
+        long stock = key.minStock() != null ? stockVersion.get() : 0;
+        if (counts.getIfPresent(key) instanceof Entry entry && entry.version() == version && entry.stockVersion() == stock) {
+            return entry.count();
+        }
+
+        long total = count.getAsLong();
+        counts.put(key, new Entry(total, version, stock));
+        return total;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        stockVersion.incrementAndGet();
+    }
+
+    private record Entry(long count, long version, long stockVersion) {
+    }
+
+    private record Key(String name, Double minPrice, Double maxPrice, Integer minStock, UUID categoryId,
+                       boolean fuzzy, String text) {
+
+        static Key of(ProductFilterRequest filters) {
+            return new Key(
+                    filters.getName() != null ? filters.getName().toLowerCase(Locale.ROOT) : null,
+                    filters.getMinPrice(),
+                    filters.getMaxPrice(),
+                    filters.getMinStock(),
+                    filters.getCategoryId(),
+                    filters.isFuzzy(),
+                    filters.getText());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.catalog.module.product.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical public searches. The first caller for a key runs the
+ * search; callers that arrive while it is in flight wait for its result instead of running
+ * their own query. A waiter gives up after {@code catalog.search.coalescing.max-wait} and runs
+ * the search itself. Outcomes are counted in {@code catalog.search.coalescing} by
+ * {@code outcome} tag: {@code leader}, {@code collapsed} and {@code timeout}.
+ */
+@Slf4j
+@Component
+public class ProductSearchCoalescer {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Counter leaders;
+    private final Counter collapsed;
+    private final Counter timeouts;
+
+    public ProductSearchCoalescer(MeterRegistry meterRegistry,
+                                  @Value("${catalog.search.coalescing.enabled:true}") boolean enabled,
+                                  @Value("${catalog.search.coalescing.max-wait:2s}") Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+        this.leaders = counter(meterRegistry, "leader");
+        this.collapsed = counter(meterRegistry, "collapsed");
+        this.timeouts = counter(meterRegistry, "timeout");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> search) {
+        if (!enabled) {
+            return search.get();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing == null) {
+            leaders.increment();
+            try {
+                T result = search.get();
+                mine.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        collapsed.increment();
+        try {
+            return (T) existing.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            log.debug("Coalesced search for {} did not finish within {}, running it again", key, maxWait);
+            return search.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced search", e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("catalog.search.coalescing")
+                .description("Public searches by single-flight outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
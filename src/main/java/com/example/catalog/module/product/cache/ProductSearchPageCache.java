@@ -0,0 +1,150 @@
+package com.example.catalog.module.product.cache;
+
+import com.example.catalog.config.cache.CacheConfig;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.event.ProductStockChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serialized JSON of the leading public search pages. Each entry records the generation of
+ * the slice of the catalog it was built from: its category, or the whole catalog for searches
+ * without a category filter and for faceted searches (facets span every category). A committed
+ * product write bumps the generation of the categories it touched and of the whole catalog, so
+ * only the affected entries stop matching. Stock-only writes bump a stock generation that only
+ * entries filtering on {@code minStock} or sorted by stock or {@code updatedAt} (which stock
+ * moves stamp) check, since the pages do not show stock. The generations are read before the
+ * page is loaded, so a write that commits during the load leaves the new entry already stale.
+ */
+@Slf4j
+@Component
+public class ProductSearchPageCache {
+
+    private final Cache<Object, Object> pages;
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+    private final AtomicLong catalogGeneration = new AtomicLong();
+    private final AtomicLong stockGeneration = new AtomicLong();
+    private final ConcurrentMap<UUID, AtomicLong> categoryGenerations = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public ProductSearchPageCache(CacheManager cacheManager, ObjectMapper objectMapper,
+                                  @Value("${catalog.cache.search-pages.max-pages:3}") int maxPages) {
+        this.pages = (Cache<Object, Object>) Objects.requireNonNull(
+                cacheManager.getCache(CacheConfig.PUBLIC_SEARCH_PAGES)).getNativeCache();
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * Returns the cached bytes for {@code key}, or serializes the result of {@code loader}.
+     * Pages past {@code catalog.cache.search-pages.max-pages} are serialized but not stored.
+     */
+    public CachedPage get(Key key, Supplier<?> loader) {
+        if (key.page() >= maxPages) {
+            return serialize(loader.get());
+        }
+
+        long generation = generationOf(key);
+        long stock = key.dependsOnStock() ? stockGeneration.get() : 0;
+        if (pages.getIfPresent(key) instanceof Entry entry && entry.generation() == generation && entry.stockGeneration() == stock) {
+            return entry.page();
+        }
+
+        CachedPage page = serialize(loader.get());
+        pages.put(key, new Entry(page, generation, stock));
+        return page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        catalogGeneration.incrementAndGet();
+        bump(event.product().categoryId());
+        if (!Objects.equals(event.previousCategoryId(), event.product().categoryId())) {
+            bump(event.previousCategoryId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        stockGeneration.incrementAndGet();
+    }
+
+    private long generationOf(Key key) {
+        if (key.categoryId() == null || key.priceBucketSize() != null) {
+            return catalogGeneration.get();
+        }
+        return categoryGenerations.computeIfAbsent(key.categoryId(), id -> new AtomicLong()).get();
+    }
+
+    private void bump(UUID categoryId) {
+        if (categoryId != null) {
+            categoryGenerations.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private CachedPage serialize(Object value) {
+        try {
+            return new CachedPage(objectMapper.writeValueAsBytes(value), MediaType.APPLICATION_JSON);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record CachedPage(byte[] body, MediaType contentType) {
+    }
+
+    private record Entry(CachedPage page, long generation, long stockGeneration) {
+    }
+
+    /**
+     * Normalized search: the name and text filters are matched case-insensitively, so they are lower-cased;
+     * {@code priceBucketSize} is only set for faceted searches and {@code slice} for count-free ones.
+     */
+    public record Key(String name, Double minPrice, Double maxPrice, Integer minStock, UUID categoryId,
+                      boolean fuzzy, String text, int page, int size, String sort, BigDecimal priceBucketSize, boolean slice) {
+
+        public static Key of(ProductFilterRequest filters, Pageable pageable, BigDecimal priceBucketSize) {
+            return of(filters, pageable, priceBucketSize, false);
+        }
+
+        public static Key of(ProductFilterRequest filters, Pageable pageable, BigDecimal priceBucketSize, boolean slice) {
+            return new Key(
+                    filters.getName() != null ? filters.getName().toLowerCase(Locale.ROOT) : null,
+                    filters.getMinPrice(),
+                    filters.getMaxPrice(),
+                    filters.getMinStock(),
+                    filters.getCategoryId(),
+                    filters.isFuzzy(),
+                    filters.getText() != null ? filters.getText().toLowerCase(Locale.ROOT) : null,
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    pageable.getSort().toString(),
+                    priceBucketSize != null ? priceBucketSize.stripTrailingZeros() : null,
+                    slice);
+        }
+
+        boolean dependsOnStock() {
+            return minStock != null || sort.contains("stock:") || sort.contains("updatedAt:");
+        }
+    }
+}
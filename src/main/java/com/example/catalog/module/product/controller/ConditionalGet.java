@@ -0,0 +1,35 @@
+package com.example.catalog.module.product.controller;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Conditional GET support for product endpoints. The strong ETag combines a resource key with
+ * its last modification time; {@link WebRequest#checkNotModified(String, long)} then answers
+ * If-None-Match / If-Modified-Since and writes the ETag and Last-Modified headers.
+ */
+final class ConditionalGet {
+
+    static final String CATALOG = "catalog";
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Returns {@code true} when the client copy is current; the response is then already a 304
+     * and the handler should return {@code null}.
+     */
+    static boolean isNotModified(WebRequest request, String resource, Optional<LocalDateTime> lastModified) {
+        if (lastModified.isEmpty()) {
+            return false;
+        }
+        Instant instant = lastModified.get().atZone(ZoneId.systemDefault()).toInstant();
+        String etag = "\"" + resource + "-" + ChronoUnit.MICROS.between(Instant.EPOCH, instant) + "\"";
+        return request.checkNotModified(etag, instant.toEpochMilli());
+    }
+}
@@ -1,20 +1,35 @@
 package com.example.catalog.module.product.controller;
 
 import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.request.ProductPatchRequest;
 import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductImportResponse;
+import com.example.catalog.module.product.dto.response.ProductPatchOutcome;
 import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.service.CatalogVersionService;
+import com.example.catalog.module.product.service.ProductFlashSaleService;
+import com.example.catalog.module.product.service.ProductImportService;
+import com.example.catalog.module.product.service.ProductPatchService;
 import com.example.catalog.module.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,6 +40,10 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductPatchService productPatchService;
+    private final ProductFlashSaleService productFlashSaleService;
+    private final CatalogVersionService catalogVersionService;
 
     /**
      * GET /api/products/pageable
@@ -33,8 +52,9 @@ public class ProductController {
     @GetMapping("/pageable")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "List active products with filters and pagination",
-            description = "Returns paginated and filtered list of active products")
-    public ResponseEntity<Page<ProductResponse>> getFilteredPaginatedProducts(
+            description = "Returns paginated and filtered list of active products. "
+                    + "With slice=true the total count is skipped and only hasNext is reported.")
+    public ResponseEntity<Slice<ProductResponse>> getFilteredPaginatedProducts(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) Double minPrice,
             @RequestParam(required = false) Double maxPrice,
@@ -43,17 +63,77 @@ public class ProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortField,
-            @RequestParam(defaultValue = "asc") String direction
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean slice,
+            WebRequest request
     ) {
         log.info("Listing products with filters and pagination");
+        // Every row carries its stock, so the listing changes with each order.
+        if (ConditionalGet.isNotModified(request, ConditionalGet.CATALOG, catalogVersionService.currentWithStock())) {
+            return null;
+        }
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(new Sort.Order(sortDirection, sortField)));
 
         ProductFilterRequest filters = ProductFilterRequest.of(name, minPrice, maxPrice, minStock, categoryId);
+        if (slice) {
+            return ResponseEntity.ok(productService.filterActiveProductSlice(filters, pageable));
+        }
         return ResponseEntity.ok(productService.filterActiveProducts(filters, pageable));
     }
 
+    /**
+     * GET /api/products/export
+     * Streams every active product as newline-delimited JSON.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export active products",
+            description = "Streams the full active catalog as NDJSON, one product per line.")
+    public void exportActiveProducts(HttpServletResponse response) throws IOException {
+        log.info("Exporting active products");
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson\"");
+        productService.exportActiveProducts(response.getOutputStream());
+    }
+
+    /**
+     * POST /api/products/import
+     * Bulk-imports products from a JSON array or a CSV file with a header row.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Bulk import products (JSON)",
+            description = "Streams a JSON array of products, committing in batches and reporting per-row errors.")
+    public ResponseEntity<ProductImportResponse> importJson(HttpServletRequest request) throws IOException {
+        log.info("Importing products from JSON");
+        return ResponseEntity.ok(productImportService.importJson(request.getInputStream()));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Bulk import products (CSV)",
+            description = "Streams CSV rows (header: name,description,price,stock,imageUrl,categoryId), committing in batches.")
+    public ResponseEntity<ProductImportResponse> importCsv(HttpServletRequest request) throws IOException {
+        log.info("Importing products from CSV");
+        return ResponseEntity.ok(productImportService.importCsv(request.getInputStream()));
+    }
+
+    /**
+     * PATCH /api/products/bulk
+     * Applies price and/or stock changes to many products at once.
+     */
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Bulk patch price and stock",
+            description = "Applies {id, price?, stock?} entries as batched updates and returns one outcome per entry.")
+    public ResponseEntity<List<ProductPatchOutcome>> patchPriceAndStock(@RequestBody List<ProductPatchRequest> patches) {
+        log.info("Bulk patching {} products", patches.size());
+        return ResponseEntity.ok(productPatchService.patch(patches));
+    }
+
     /**
      * GET /api/products/{id}
      * Retrieves a single active product by its ID.
@@ -61,8 +141,11 @@ public class ProductController {
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get product by ID", description = "Returns a product by its ID if it's active.")
-    public ResponseEntity<ProductResponse> getById(@PathVariable("id") UUID id) {
+    public ResponseEntity<ProductResponse> getById(@PathVariable("id") UUID id, WebRequest request) {
         log.info("Fetching product with ID: {}", id);
+        if (ConditionalGet.isNotModified(request, id.toString(), productService.findLastModified(id))) {
+            return null;
+        }
         return ResponseEntity.ok(productService.findById(id));
     }
 
@@ -105,4 +188,33 @@ public class ProductController {
         productService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * POST /api/products/{id}/flash-sale
+     * Splits the product's stock across counter cells for high-contention sales.
+     */
+    @PostMapping("/{id}/flash-sale")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Enable flash-sale stock",
+            description = "Splits the stock across cells so concurrent orders do not queue on one row. "
+                    + "The reported stock is refreshed from the cells in the background.")
+    public ResponseEntity<Void> enableFlashSale(@PathVariable("id") UUID id,
+                                                @RequestParam(defaultValue = "8") int cells) {
+        log.info("Enabling flash sale for product {} with {} cells", id, cells);
+        productFlashSaleService.enable(id, cells);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * DELETE /api/products/{id}/flash-sale
+     * Folds the stock cells back into the product.
+     */
+    @DeleteMapping("/{id}/flash-sale")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPERVISOR')")
+    @Operation(summary = "Disable flash-sale stock", description = "Sums the stock cells back into the product stock.")
+    public ResponseEntity<Void> disableFlashSale(@PathVariable("id") UUID id) {
+        log.info("Disabling flash sale for product {}", id);
+        productFlashSaleService.disable(id);
+        return ResponseEntity.noContent().build();
+    }
 }
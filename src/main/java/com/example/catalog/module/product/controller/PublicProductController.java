@@ -1,8 +1,16 @@
 package com.example.catalog.module.product.controller;
 
+import com.example.catalog.exception.BadRequestException;
+import com.example.catalog.module.product.cache.ProductSearchCoalescer;
+import com.example.catalog.module.product.cache.ProductSearchPageCache;
 import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.response.CursorSliceResponse;
+import com.example.catalog.module.product.dto.response.ProductChangeFeed;
+import com.example.catalog.module.product.dto.response.FacetedPage;
 import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.dto.response.ProductSuggestion;
 import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.service.CatalogVersionService;
 import com.example.catalog.module.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,7 +19,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -22,33 +33,117 @@ import java.util.UUID;
 public class PublicProductController {
 
     private final ProductService productService;
+    private final CatalogVersionService catalogVersionService;
+    private final ProductSearchPageCache productSearchPageCache;
+    private final ProductSearchCoalescer productSearchCoalescer;
 
     @GetMapping
-    @Operation(summary = "Public product search", description = "Returns a lightweight list of products with filters and pagination.")
-    public ResponseEntity<Page<ProductSummaryDto>> searchPublicProducts(
+    @Operation(summary = "Public product search",
+            description = "Returns a lightweight list of products with filters and pagination. "
+                    + "With facets=true the page also carries category counts and a price histogram. "
+                    + "With slice=true the total count is skipped and only hasNext is reported. "
+                    + "With fuzzy=true the name matches words within one or two typos. "
+                    + "q runs a full-text search over name and description; sortField=relevance ranks its hits by BM25. "
+                    + "Leading pages are served from a cache of serialized responses.")
+    public ResponseEntity<byte[]> searchPublicProducts(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) Double minPrice,
             @RequestParam(required = false) Double maxPrice,
             @RequestParam(required = false) Integer minStock,
             @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(defaultValue = "name") String sortField,
-            @RequestParam(defaultValue = "asc") String direction
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(defaultValue = "50") BigDecimal priceBucketSize,
+            @RequestParam(defaultValue = "false") boolean slice,
+            WebRequest request
     ) {
         log.info("Public search for products with filters");
+        if (ConditionalGet.isNotModified(request, ConditionalGet.CATALOG, catalogVersionService.forListing(minStock, sortField))) {
+            return null;
+        }
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(new Sort.Order(sortDirection, sortField)));
 
+        if (slice && facets) {
+            throw new BadRequestException("facets are not available with slice=true");
+        }
+
+        ProductFilterRequest filters = ProductFilterRequest.of(name, minPrice, maxPrice, minStock, categoryId);
+        filters.setFuzzy(fuzzy);
+        filters.setText(q != null && !q.isBlank() ? q : null);
+        ProductSearchPageCache.Key key = ProductSearchPageCache.Key.of(filters, pageable, facets ? priceBucketSize : null, slice);
+        ProductSearchPageCache.CachedPage body = productSearchCoalescer.execute(key, () -> productSearchPageCache.get(key, () -> {
+            if (slice) {
+                return productService.findPublicProductSlice(filters, pageable);
+            }
+            Page<ProductSummaryDto> result = productService.findPublicProducts(filters, pageable);
+            return facets ? new FacetedPage<>(result, productService.findPublicFacets(filters, priceBucketSize)) : result;
+        }));
+        return ResponseEntity.ok().contentType(body.contentType()).body(body.body());
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Public product search with cursor pagination",
+            description = "Keyset pagination without a total count. Pass the nextCursor of the previous response as 'after'.")
+    public ResponseEntity<CursorSliceResponse<ProductSummaryDto>> scrollPublicProducts(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer minStock,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "name") String sortField,
+            @RequestParam(defaultValue = "asc") String direction,
+            WebRequest request
+    ) {
+        log.info("Public cursor search for products with filters");
+        if (ConditionalGet.isNotModified(request, ConditionalGet.CATALOG, catalogVersionService.forListing(minStock, sortField))) {
+            return null;
+        }
+
+        Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         ProductFilterRequest filters = ProductFilterRequest.of(name, minPrice, maxPrice, minStock, categoryId);
-        return ResponseEntity.ok(productService.findPublicProducts(filters, pageable));
+        filters.setFuzzy(fuzzy);
+        return ResponseEntity.ok(productService.scrollPublicProducts(filters, after, size, sortField, sortDirection));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Product name autocomplete",
+            description = "Returns active products whose name, or a word in it, starts with q, most sold first. "
+                    + "Served from an in-memory index.")
+    public ResponseEntity<List<ProductSuggestion>> suggestPublicProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(productService.suggestPublicProducts(q, limit));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Product change feed",
+            description = "Returns products created, updated or deleted (active=false) since the given token, oldest first. "
+                    + "Omit since for a full sync; pass the nextToken of the previous response to continue.")
+    public ResponseEntity<ProductChangeFeed> findProductChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size
+    ) {
+        return ResponseEntity.ok(productService.findChanges(since, size));
     }
 
     @GetMapping("/slug/{slug}")
     @Operation(summary = "Get public product by slug", description = "Returns full product data using the product slug")
-    public ResponseEntity<ProductResponse> getPublicProductBySlug(@PathVariable String slug) {
+    public ResponseEntity<ProductResponse> getPublicProductBySlug(@PathVariable String slug, WebRequest request) {
         log.info("Fetching public product with slug: {}", slug);
+        if (ConditionalGet.isNotModified(request, slug, productService.findPublicLastModifiedBySlug(slug))) {
+            return null;
+        }
         return ResponseEntity.ok(productService.findPublicBySlug(slug));
     }
 
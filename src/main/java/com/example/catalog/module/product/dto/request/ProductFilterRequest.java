@@ -16,6 +16,8 @@ public class ProductFilterRequest {
     private Integer minStock;
     private Double maxPrice;
     private UUID categoryId;
+    private boolean fuzzy;
+    private String text;
 
 
     public static ProductFilterRequest of(String name, Double minPrice, Double maxPrice, Integer minStock, UUID categoryId) {
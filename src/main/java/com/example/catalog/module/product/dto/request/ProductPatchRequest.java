@@ -0,0 +1,35 @@
+package com.example.catalog.module.product.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Price and/or stock change for a single product in a bulk patch")
+public class ProductPatchRequest {
+
+    @NotNull(message = "ID is required")
+    @Schema(description = "UUID of the product to patch", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    private UUID id;
+
+    @DecimalMin(value = "0.00", inclusive = true, message = "Price must be at least 0.00")
+    @Digits(integer = 8, fraction = 2, message = "Price must have at most 8 integer digits and 2 decimals")
+    @Schema(description = "New price in EUR, left unchanged when omitted", example = "24.99")
+    private BigDecimal price;
+
+    @Min(value = 0, message = "Stock cannot be negative")
+    @Schema(description = "New stock quantity, left unchanged when omitted", example = "120")
+    private Integer stock;
+}
@@ -0,0 +1,19 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A slice of results for keyset pagination. There is no total count:
+ * clients keep requesting with {@code after = nextCursor} while {@code hasNext} is true.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorSliceResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
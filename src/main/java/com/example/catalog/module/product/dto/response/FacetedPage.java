@@ -0,0 +1,20 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * A regular page with the search facets serialized alongside it.
+ */
+@Getter
+public class FacetedPage<T> extends PageImpl<T> {
+    private static final long serialVersionUID = 1L;
+
+    private final ProductFacets facets;
+
+    public FacetedPage(Page<T> page, ProductFacets facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Current state of a product that changed since a sync watermark. {@code active = false}
+ * means the product was deleted and should be dropped by the client.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChange {
+    private UUID id;
+    private String name;
+    private String description;
+    private String slug;
+    private String imageUrl;
+    private BigDecimal price;
+    private Integer stock;
+    private UUID categoryId;
+    private boolean active;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of the product change feed, oldest change first. Clients store {@code nextToken}
+ * and pass it as {@code since} on the next sync, immediately while {@code hasMore} is true.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangeFeed {
+    private List<ProductChange> changes;
+    private boolean hasMore;
+    private String nextToken;
+}
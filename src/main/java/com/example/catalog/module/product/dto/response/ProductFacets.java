@@ -0,0 +1,35 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Facet counts for a public search. Each facet applies every active filter except its own:
+ * category counts ignore {@code categoryId}, the price histogram ignores the price range.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductFacets {
+    private List<CategoryCount> categories;
+    private List<PriceBucket> priceHistogram;
+
+    @Getter
+    @AllArgsConstructor
+    public static class CategoryCount {
+        private UUID categoryId;
+        private String categoryName;
+        private long count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PriceBucket {
+        private BigDecimal from;
+        private BigDecimal to;
+        private long count;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} is capped, {@code failed} always counts every rejected row.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImportResponse {
+    private long total;
+    private long imported;
+    private long failed;
+    private List<RowError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
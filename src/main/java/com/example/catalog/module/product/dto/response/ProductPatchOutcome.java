@@ -0,0 +1,24 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Result of one entry of a bulk price/stock patch.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductPatchOutcome {
+    private UUID id;
+    private Status status;
+    private String message;
+
+    public enum Status {
+        UPDATED,
+        NOT_FOUND,
+        INVALID,
+        CONFLICT
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.catalog.module.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Autocomplete entry for the public search box.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSuggestion {
+    private UUID id;
+    private String name;
+    private String slug;
+}
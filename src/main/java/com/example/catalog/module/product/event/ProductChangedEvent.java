@@ -0,0 +1,29 @@
+package com.example.catalog.module.product.event;
+
+import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.model.ProductSnapshot;
+
+import java.util.UUID;
+
+/**
+ * Published by the product write paths after flushing, so the snapshot carries the
+ * generated timestamps. Listeners should use {@code @TransactionalEventListener}
+ * so they only observe committed state.
+ *
+ * @param previousCategoryId category the product belonged to before the write; equal to
+ *                           the snapshot's category unless the write moved the product
+ */
+public record ProductChangedEvent(ProductSnapshot product, UUID previousCategoryId) {
+
+    public ProductChangedEvent(ProductSnapshot product) {
+        this(product, product.categoryId());
+    }
+
+    public static ProductChangedEvent of(Product product) {
+        return new ProductChangedEvent(ProductSnapshot.of(product));
+    }
+
+    public static ProductChangedEvent of(Product product, UUID previousCategoryId) {
+        return new ProductChangedEvent(ProductSnapshot.of(product), previousCategoryId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.catalog.module.product.event;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Units sold gained (placed orders) or lost (cancellations) per product, published by the
+ * order write paths so that rankings by popularity follow sales without re-aggregating
+ * every order. Listeners should use {@code @TransactionalEventListener}, as for
+ * {@link ProductChangedEvent}.
+ */
+public record ProductSalesChangedEvent(Map<UUID, Long> unitsSold) {
+}
@@ -0,0 +1,12 @@
+package com.example.catalog.module.product.event;
+
+import com.example.catalog.module.product.model.ProductSnapshot;
+
+/**
+ * Published instead of {@link ProductChangedEvent} by the write paths that only move stock
+ * (orders, cancellations, holds, flash-sale rebalancing), so that listeners which do not
+ * depend on stock are not invalidated by every order. Listeners should use
+ * {@code @TransactionalEventListener}, as for {@link ProductChangedEvent}.
+ */
+public record ProductStockChangedEvent(ProductSnapshot product) {
+}
@@ -4,8 +4,11 @@ package com.example.catalog.module.product.mapper;
 import com.example.catalog.module.category.dto.CategoryDTO;
 import com.example.catalog.module.category.model.Category;
 import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductChange;
 import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
 import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.model.ProductSnapshot;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -35,6 +38,32 @@ public class ProductMapper {
         return response;
     }
 
+    public ProductSummaryDto toSummary(Product product) {
+        return new ProductSummaryDto(
+                product.getId(),
+                product.getName(),
+                product.getPrice(),
+                product.getImageUrl(),
+                product.getCategory().getName(),
+                product.getSlug()
+        );
+    }
+
+    public ProductChange toChange(ProductSnapshot product) {
+        return new ProductChange(
+                product.id(),
+                product.name(),
+                product.description(),
+                product.slug(),
+                product.imageUrl(),
+                product.price(),
+                product.stock(),
+                product.categoryId(),
+                product.active(),
+                product.updatedAt()
+        );
+    }
+
     public Product toEntity(ProductRequest dto) {
         Product product = new Product();
         product.setName(dto.getName());
@@ -14,19 +14,24 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id"),
+        @Index(name = "idx_products_stock_id", columnList = "stock, id"),
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_products_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_products_catalog_updated_at", columnList = "catalog_updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Product {
 
     @Id
     @GeneratedValue(generator = "UUID")
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @EqualsAndHashCode.Include
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -68,9 +73,25 @@ public class Product {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Like {@link #updatedAt}, but left alone by order-driven stock moves, which only stamp
+     * {@code updated_at}; listings that do not depend on stock are versioned by it.
+     */
+    @UpdateTimestamp
+    @Column(name = "catalog_updated_at")
+    private LocalDateTime catalogUpdatedAt;
+
     @Column(name = "active", nullable = false)
+    @Builder.Default
     private boolean active = true;
 
+    /**
+     * Stock is split across {@link ProductStockCell}s and {@link #stock} only mirrors their sum.
+     * Only switched by {@code ProductFlashSaleService}, so entity updates never write it back.
+     */
+    @Column(name = "flash_sale", nullable = false, updatable = false, columnDefinition = "boolean default false not null")
+    private boolean flashSale;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,9 @@
+package com.example.catalog.module.product.model;
+
+import java.util.UUID;
+
+/**
+ * Units of a product sold across orders that were not cancelled.
+ */
+public record ProductSales(UUID productId, Long unitsSold) {
+}
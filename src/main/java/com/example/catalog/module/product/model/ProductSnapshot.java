@@ -0,0 +1,40 @@
+package com.example.catalog.module.product.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the scalar columns of a {@link Product}.
+ * Used to feed in-memory catalog structures without holding on to managed entities.
+ */
+public record ProductSnapshot(
+        UUID id,
+        String name,
+        String description,
+        String slug,
+        String imageUrl,
+        BigDecimal price,
+        Integer stock,
+        UUID categoryId,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static ProductSnapshot of(Product product) {
+        return new ProductSnapshot(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getSlug(),
+                product.getImageUrl(),
+                product.getPrice(),
+                product.getStock(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.isActive(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.catalog.module.product.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * One of the counters a flash-sale product's stock is split across. Only mapped so the
+ * schema is generated; the cells are read and written with plain SQL by
+ * {@link com.example.catalog.module.product.service.ProductFlashSaleService}.
+ */
+@Entity
+@Table(name = "product_stock_cells")
+@IdClass(ProductStockCell.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockCell {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Id
+    @Column(name = "cell", nullable = false)
+    private int cell;
+
+    @Column(name = "stock", nullable = false)
+    private int stock;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private UUID productId;
+        private int cell;
+    }
+}
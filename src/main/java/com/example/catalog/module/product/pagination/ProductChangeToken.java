@@ -0,0 +1,42 @@
+package com.example.catalog.module.product.pagination;
+
+import com.example.catalog.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque watermark for the product change feed: the {@code (updatedAt, id)} of the last
+ * change a client has seen. The next request seeks past it on the
+ * {@code idx_products_updated_at_id} index.
+ */
+public record ProductChangeToken(LocalDateTime updatedAt, UUID id) {
+
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Decodes {@code token}; {@code null} when absent, which starts a full sync.
+     */
+    public static ProductChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid change token");
+            }
+            return new ProductChangeToken(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid change token");
+        }
+    }
+
+    public String encode() {
+        String raw = updatedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.catalog.module.product.pagination;
+
+import com.example.catalog.exception.BadRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursor for product listings.
+ * <p>
+ * The token carries the sort field, the direction, the last seen id and the last seen
+ * value of the sort field, so the next page seeks on {@code (sortField, id)} instead of
+ * using OFFSET.
+ */
+public final class ProductCursor {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "\n";
+
+    private static final Map<String, Function<String, Object>> SORT_FIELDS = Map.of(
+            "name", value -> value,
+            "price", BigDecimal::new,
+            "stock", Integer::valueOf,
+            "createdAt", LocalDateTime::parse,
+            "updatedAt", LocalDateTime::parse
+    );
+
+    private ProductCursor() {
+    }
+
+    public static Sort sort(String sortField, Sort.Direction direction) {
+        requireSupported(sortField);
+        return Sort.by(new Sort.Order(direction, sortField), new Sort.Order(direction, ID));
+    }
+
+    public static KeysetScrollPosition decode(String token, String sortField, Sort.Direction direction) {
+        requireSupported(sortField);
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (parts.length != 4 || !parts[0].equals(sortField) || !parts[1].equals(direction.name())) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            keys.put(sortField, SORT_FIELDS.get(sortField).apply(parts[3]));
+            keys.put(ID, UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(ScrollPosition position, String sortField, Sort.Direction direction) {
+        Map<String, ?> keys = ((KeysetScrollPosition) position).getKeys();
+        Object value = keys.get(sortField);
+        String raw = String.join(SEPARATOR,
+                sortField,
+                direction.name(),
+                keys.get(ID).toString(),
+                value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void requireSupported(String sortField) {
+        if (!SORT_FIELDS.containsKey(sortField)) {
+            throw new BadRequestException("Unsupported sort field for cursor pagination: " + sortField);
+        }
+    }
+}
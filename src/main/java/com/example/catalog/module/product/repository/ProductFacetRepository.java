@@ -0,0 +1,27 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.product.model.Product;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductFacetRepository {
+
+    /**
+     * @param bucket        price bucket index, {@code floor(price / bucketSize)}
+     * @param inPriceRange  whether the products of this row fall inside the requested price range
+     */
+    record FacetRow(UUID categoryId, String categoryName, long bucket, boolean inPriceRange, long count) {
+    }
+
+    /**
+     * Counts the products matching {@code spec} grouped by category, price bucket and whether
+     * the price is within {@code [minPrice, maxPrice]} (either bound may be null), in one
+     * aggregation query. The result has at most one row per category, bucket and side of the
+     * range, however many products match.
+     */
+    List<FacetRow> countByCategoryAndPriceBucket(Specification<Product> spec, BigDecimal bucketSize,
+                                                 BigDecimal minPrice, BigDecimal maxPrice);
+}
@@ -0,0 +1,76 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.product.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ProductFacetRepositoryImpl implements ProductFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * The bucket and range expressions carry bound parameters, so the GROUP BY reuses the very
+     * same expressions as the SELECT: Hibernate then renders it as a reference to the select
+     * item (by position or alias), which databases accept where a repeated parameterized
+     * expression would not be recognized as the same one.
+     */
+    @Override
+    public List<FacetRow> countByCategoryAndPriceBucket(Specification<Product> spec, BigDecimal bucketSize,
+                                                        BigDecimal minPrice, BigDecimal maxPrice) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        Join<Product, Category> category = root.join("category");
+        Path<BigDecimal> price = root.get("price");
+
+        Expression<Number> bucket = cb.floor(cb.quot(price, bucketSize));
+        List<Predicate> range = new ArrayList<>(2);
+        if (minPrice != null) {
+            range.add(cb.greaterThanOrEqualTo(price, minPrice));
+        }
+        if (maxPrice != null) {
+            range.add(cb.lessThanOrEqualTo(price, maxPrice));
+        }
+        Expression<Integer> inRange = range.isEmpty()
+                ? null
+                : cb.<Integer>selectCase().when(cb.and(range.toArray(Predicate[]::new)), 1).otherwise(0);
+
+        List<Expression<?>> groups = new ArrayList<>(List.of(category.get("id"), category.get("name"), bucket));
+        if (inRange != null) {
+            groups.add(inRange);
+        }
+        List<Selection<?>> selections = new ArrayList<>(groups);
+        selections.add(cb.count(root));
+
+        query.multiselect(selections);
+        query.where(spec.toPredicate(root, query, cb));
+        query.groupBy(groups);
+
+        int countIndex = selections.size() - 1;
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> new FacetRow(
+                        row.get(0, UUID.class),
+                        row.get(1, String.class),
+                        ((Number) row.get(2)).longValue(),
+                        inRange == null || ((Number) row.get(3)).intValue() == 1,
+                        ((Number) row.get(countIndex)).longValue()))
+                .toList();
+    }
+}
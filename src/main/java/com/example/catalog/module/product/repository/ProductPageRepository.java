@@ -0,0 +1,26 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.product.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Paging over {@link Product} entities where the caller controls the count.
+ */
+public interface ProductPageRepository {
+
+    /**
+     * Like {@code findAll(spec, pageable)}, but the total comes from {@code total}, which is only
+     * called when it cannot be derived from the page itself.
+     */
+    Page<Product> findPage(Specification<Product> spec, Pageable pageable, LongSupplier total);
+
+    /**
+     * Reads one row past the page to tell whether a next page exists; never counts.
+     */
+    Slice<Product> findSlice(Specification<Product> spec, Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.product.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class ProductPageRepositoryImpl implements ProductPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Product> findPage(Specification<Product> spec, Pageable pageable, LongSupplier total) {
+        List<Product> content = select(spec, pageable, pageable.isPaged() ? pageable.getPageSize() : -1);
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Override
+    public Slice<Product> findSlice(Specification<Product> spec, Pageable pageable) {
+        List<Product> content = select(spec, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private List<Product> select(Specification<Product> spec, Pageable pageable, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        query.where(spec.toPredicate(root, query, cb));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Product> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(maxResults);
+        }
+        return typedQuery.getResultList();
+    }
+}
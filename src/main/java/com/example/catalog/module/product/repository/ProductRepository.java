@@ -1,20 +1,114 @@
 package com.example.catalog.module.product.repository;
 
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
 import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.model.ProductSales;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpecificationExecutor<Product>,
+        ProductSummaryRepository, ProductFacetRepository, ProductPageRepository, ProductTemplateRepository {
     Optional<Product> findByIdAndActiveTrue(UUID id);
+    List<Product> findByIdInAndActiveTrue(Collection<UUID> ids);
     Page<Product> findByActiveTrue(Pageable pageable);
     Optional<Product> findBySlugAndActiveTrue(String slug);
     Optional<Product> findById(UUID id);
-}
 
+    @Query("select p.updatedAt from Product p where p.id = :id and p.active = true")
+    Optional<LocalDateTime> findUpdatedAtByIdAndActiveTrue(UUID id);
+
+    @Query("select p.updatedAt from Product p where p.slug = :slug and p.active = true")
+    Optional<LocalDateTime> findUpdatedAtBySlugAndActiveTrue(String slug);
+
+    @Query("select p.id from Product p where p.id in :ids and p.active = true and p.flashSale = true")
+    List<UUID> findFlashSaleIdsIn(Collection<UUID> ids);
+
+    @Query("select max(p.updatedAt) from Product p")
+    Optional<LocalDateTime> findLastUpdatedAt();
+
+    @Query("select max(p.catalogUpdatedAt) from Product p")
+    Optional<LocalDateTime> findLastCatalogUpdatedAt();
+
+    @Query("""
+            select new com.example.catalog.module.product.model.ProductSales(i.product.id, sum(i.quantity))
+            from OrderItem i
+            where i.order.cancelled = false
+            group by i.product.id
+            """)
+    List<ProductSales> findUnitsSold();
+
+    @Query("""
+            select new com.example.catalog.module.product.dto.response.ProductSummaryDto(
+                p.id, p.name, p.price, p.imageUrl, c.name, p.slug)
+            from Product p
+            join p.category c
+            where p.id in :ids
+            """)
+    List<ProductSummaryDto> findSummariesByIdIn(Collection<UUID> ids);
+
+    @Query("""
+            select new com.example.catalog.module.product.model.ProductSnapshot(
+                p.id, p.name, p.description, p.slug, p.imageUrl, p.price, p.stock, p.category.id, p.active,
+                p.createdAt, p.updatedAt)
+            from Product p
+            where p.active = true
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ProductSnapshot> streamActiveSnapshots();
+
+    @Query("""
+            select new com.example.catalog.module.product.model.ProductSnapshot(
+                p.id, p.name, p.description, p.slug, p.imageUrl, p.price, p.stock, p.category.id, p.active,
+                p.createdAt, p.updatedAt)
+            from Product p
+            where p.id in :ids
+            """)
+    List<ProductSnapshot> findSnapshotsByIdIn(Collection<UUID> ids);
+
+    @Query("""
+            select new com.example.catalog.module.product.model.ProductSnapshot(
+                p.id, p.name, p.description, p.slug, p.imageUrl, p.price, p.stock, p.category.id, p.active,
+                p.createdAt, p.updatedAt)
+            from Product p
+            where p.updatedAt > :since
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ProductSnapshot> streamSnapshotsUpdatedAfter(LocalDateTime since);
+
+    @Query("""
+            select new com.example.catalog.module.product.model.ProductSnapshot(
+                p.id, p.name, p.description, p.slug, p.imageUrl, p.price, p.stock, p.category.id, p.active,
+                p.createdAt, p.updatedAt)
+            from Product p
+            where p.updatedAt <= :upTo
+            order by p.updatedAt, p.id
+            """)
+    List<ProductSnapshot> findChanges(LocalDateTime upTo, Pageable limit);
+
+    @Query("""
+            select new com.example.catalog.module.product.model.ProductSnapshot(
+                p.id, p.name, p.description, p.slug, p.imageUrl, p.price, p.stock, p.category.id, p.active,
+                p.createdAt, p.updatedAt)
+            from Product p
+            where p.updatedAt <= :upTo
+              and (p.updatedAt > :updatedAt or (p.updatedAt = :updatedAt and p.id > :id))
+            order by p.updatedAt, p.id
+            """)
+    List<ProductSnapshot> findChangesAfter(LocalDateTime updatedAt, UUID id, LocalDateTime upTo, Pageable limit);
+}
@@ -0,0 +1,30 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.function.LongSupplier;
+
+public interface ProductSummaryRepository {
+
+    /**
+     * Selects only the {@link ProductSummaryDto} columns, joining categories in the same
+     * statement. No entities are hydrated, so there is no lazy loading and no dirty-checking snapshot.
+     */
+    Page<ProductSummaryDto> findSummaries(Specification<Product> spec, Pageable pageable);
+
+    /**
+     * Like {@link #findSummaries(Specification, Pageable)}, but the total comes from {@code total},
+     * which is only called when it cannot be derived from the page itself.
+     */
+    Page<ProductSummaryDto> findSummaries(Specification<Product> spec, Pageable pageable, LongSupplier total);
+
+    /**
+     * Reads one row past the page to tell whether a next page exists; never counts.
+     */
+    Slice<ProductSummaryDto> findSummarySlice(Specification<Product> spec, Pageable pageable);
+}
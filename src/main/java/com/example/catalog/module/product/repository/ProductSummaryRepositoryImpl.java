@@ -0,0 +1,79 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class ProductSummaryRepositoryImpl implements ProductSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductSummaryDto> findSummaries(Specification<Product> spec, Pageable pageable) {
+        return findSummaries(spec, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<ProductSummaryDto> findSummaries(Specification<Product> spec, Pageable pageable, LongSupplier total) {
+        List<ProductSummaryDto> content = select(spec, pageable, pageable.isPaged() ? pageable.getPageSize() : -1);
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Override
+    public Slice<ProductSummaryDto> findSummarySlice(Specification<Product> spec, Pageable pageable) {
+        List<ProductSummaryDto> content = select(spec, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private List<ProductSummaryDto> select(Specification<Product> spec, Pageable pageable, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ProductSummaryDto> query = cb.createQuery(ProductSummaryDto.class);
+        Root<Product> root = query.from(Product.class);
+        Join<Product, Category> category = root.join("category");
+        query.select(cb.construct(ProductSummaryDto.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("price"),
+                root.get("imageUrl"),
+                category.get("name"),
+                root.get("slug")));
+        query.where(spec.toPredicate(root, query, cb));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<ProductSummaryDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(maxResults);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root));
+        query.where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
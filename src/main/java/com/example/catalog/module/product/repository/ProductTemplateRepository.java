@@ -0,0 +1,34 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.spec.ProductQueryTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Filtered reads through the fixed {@link ProductQueryTemplate} queries. Callers must check
+ * {@link ProductQueryTemplate#supports} for the page's sort first.
+ */
+public interface ProductTemplateRepository {
+
+    Page<ProductSummaryDto> findSummaries(ProductQueryTemplate template, Pageable pageable, LongSupplier total);
+
+    Slice<ProductSummaryDto> findSummarySlice(ProductQueryTemplate template, Pageable pageable);
+
+    Page<Product> findPage(ProductQueryTemplate template, Pageable pageable, LongSupplier total);
+
+    Slice<Product> findSlice(ProductQueryTemplate template, Pageable pageable);
+
+    long countMatching(ProductQueryTemplate template);
+
+    /**
+     * Ids of at most {@code limit} matches, unordered.
+     */
+    List<UUID> findIdsMatching(ProductQueryTemplate template, int limit);
+}
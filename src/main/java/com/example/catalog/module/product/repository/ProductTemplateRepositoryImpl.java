@@ -0,0 +1,78 @@
+package com.example.catalog.module.product.repository;
+
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.spec.ProductQueryTemplate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+public class ProductTemplateRepositoryImpl implements ProductTemplateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductSummaryDto> findSummaries(ProductQueryTemplate template, Pageable pageable, LongSupplier total) {
+        TypedQuery<ProductSummaryDto> query = entityManager.createQuery(
+                template.summaryQuery(pageable.getSort()), ProductSummaryDto.class);
+        return PageableExecutionUtils.getPage(page(template, query, pageable, 0), pageable, total);
+    }
+
+    @Override
+    public Slice<ProductSummaryDto> findSummarySlice(ProductQueryTemplate template, Pageable pageable) {
+        TypedQuery<ProductSummaryDto> query = entityManager.createQuery(
+                template.summaryQuery(pageable.getSort()), ProductSummaryDto.class);
+        return slice(page(template, query, pageable, 1), pageable);
+    }
+
+    @Override
+    public Page<Product> findPage(ProductQueryTemplate template, Pageable pageable, LongSupplier total) {
+        TypedQuery<Product> query = entityManager.createQuery(template.entityQuery(pageable.getSort()), Product.class);
+        return PageableExecutionUtils.getPage(page(template, query, pageable, 0), pageable, total);
+    }
+
+    @Override
+    public Slice<Product> findSlice(ProductQueryTemplate template, Pageable pageable) {
+        TypedQuery<Product> query = entityManager.createQuery(template.entityQuery(pageable.getSort()), Product.class);
+        return slice(page(template, query, pageable, 1), pageable);
+    }
+
+    @Override
+    public long countMatching(ProductQueryTemplate template) {
+        TypedQuery<Long> query = entityManager.createQuery(template.countQuery(), Long.class);
+        template.bind(query);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public List<UUID> findIdsMatching(ProductQueryTemplate template, int limit) {
+        TypedQuery<UUID> query = entityManager.createQuery(template.idQuery(), UUID.class);
+        template.bind(query);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private static <T> List<T> page(ProductQueryTemplate template, TypedQuery<T> query, Pageable pageable, int extraRows) {
+        template.bind(query);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize() + extraRows);
+        }
+        return query.getResultList();
+    }
+
+    private static <T> Slice<T> slice(List<T> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.catalog.module.product.search;
+
+import java.util.Arrays;
+
+/**
+ * Levenshtein automaton for a fixed word and maximum edit distance, evaluated lazily.
+ * <p>
+ * A state is the row of edit distances between the word and the input consumed so far,
+ * restricted to the diagonal band {@code |i - depth| <= maxEdits}; cells outside the band
+ * can never come back under the limit and are held at {@code maxEdits + 1}. Each step is
+ * therefore O(maxEdits) regardless of the word length, and a state that cannot reach an
+ * accepting state lets the caller prune a whole subtree of the dictionary.
+ */
+final class LevenshteinAutomaton {
+
+    private final char[] word;
+    private final int maxEdits;
+
+    LevenshteinAutomaton(String word, int maxEdits) {
+        this.word = word.toCharArray();
+        this.maxEdits = maxEdits;
+    }
+
+    State start() {
+        int[] row = new int[word.length + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = Math.min(i, maxEdits + 1);
+        }
+        return new State(row, 0);
+    }
+
+    State step(State state, char c) {
+        int depth = state.depth + 1;
+        int[] previous = state.row;
+        int[] row = new int[previous.length];
+        Arrays.fill(row, maxEdits + 1);
+
+        int from = Math.max(0, depth - maxEdits);
+        int to = Math.min(word.length, depth + maxEdits);
+        for (int i = from; i <= to; i++) {
+            int cost;
+            if (i == 0) {
+                cost = depth;
+            } else {
+                int substitute = previous[i - 1] + (word[i - 1] == c ? 0 : 1);
+                int insert = previous[i] + 1;
+                int delete = row[i - 1] + 1;
+                cost = Math.min(substitute, Math.min(insert, delete));
+            }
+            row[i] = Math.min(cost, maxEdits + 1);
+        }
+        return new State(row, depth);
+    }
+
+    /**
+     * Whether some continuation of the consumed input can still be accepted.
+     */
+    boolean canMatch(State state) {
+        for (int cost : state.row) {
+            if (cost <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Edit distance between the word and the consumed input, or {@code -1} when it exceeds the limit.
+     */
+    int distance(State state) {
+        int cost = state.row[word.length];
+        return cost <= maxEdits ? cost : -1;
+    }
+
+    record State(int[] row, int depth) {
+    }
+}
@@ -0,0 +1,414 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.event.ProductStockChangedEvent;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Collator;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-memory, column-oriented copy of the catalog used to evaluate
+ * {@link ProductFilterRequest} without SQL.
+ * <p>
+ * Every product gets a slot; each filterable attribute lives in a primitive array indexed
+ * by slot (price in cents, stock, category ordinal) and the active flag is a {@link BitSet}.
+ * A query starts from the active bitset, intersects it with the category bitset, then
+ * clears the slots that fail the range predicates. Matching ids are returned in sort order
+ * by walking a per-field sorted permutation of the active slots, built on first use and
+ * patched in place on every write. Names are sorted by {@link Collator} keys for the locale in
+ * {@code catalog.search.columnar.name-collation}, which should be the locale of the database
+ * collation of {@code products.name}; a Java collator approximates it, so leaving the property
+ * blank keeps name sorts in SQL where the exact database order matters. The slot of a product
+ * that is deactivated goes on a free list and is reused by the next product added.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductColumnStore implements ProductSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Map<UUID, Integer> categoryOrdinals = new HashMap<>();
+    private final List<BitSet> categoryBits = new ArrayList<>();
+    private final Map<String, int[]> sortedSlots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private String[] lowerNames = new String[INITIAL_CAPACITY];
+    private byte[][] nameKeys = new byte[INITIAL_CAPACITY][];
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private int[] stock = new int[INITIAL_CAPACITY];
+    private int[] categoryOrdinal = new int[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private long[] updatedAt = new long[INITIAL_CAPACITY];
+    private BitSet active = new BitSet();
+    private int size;
+
+    private volatile boolean ready;
+
+    @Value("${catalog.search.columnar.enabled:false}")
+    private boolean enabled;
+
+    @Value("${catalog.search.columnar.name-collation:}")
+    private String nameCollation;
+
+    private Collator nameCollator;
+
+    public record Result(List<UUID> ids, long total) {
+    }
+
+    /**
+     * Evaluates the filters and returns the ids of the requested page in sort order plus the
+     * total number of matches. Empty when the store cannot answer (disabled, still loading,
+     * an unresolved full-text filter or sorting on an attribute it does not hold), in which
+     * case callers fall back to SQL.
+     *
+     * @param nameMatches ids already resolved by {@link ProductNameIndex}, or {@code null}
+     *                    to evaluate the name filter against the name column
+     * @param textMatches ids already resolved by {@link ProductTextIndex}; must be set when
+     *                    the filters carry a full-text query
+     */
+    public Optional<Result> query(ProductFilterRequest filters, Collection<UUID> nameMatches, Collection<UUID> textMatches,
+                                  Pageable pageable) {
+        if (!enabled || !ready || (filters.getText() != null && textMatches == null)) {
+            return Optional.empty();
+        }
+
+        Sort.Order order = singleOrder(pageable.getSort());
+        if (order == null || comparator(order.getProperty()) == null) {
+            return Optional.empty();
+        }
+
+        int[] sorted;
+        lock.readLock().lock();
+        sorted = sortedSlots.get(order.getProperty());
+        if (sorted == null) {
+            lock.readLock().unlock();
+            lock.writeLock().lock();
+            try {
+                sorted = sortedSlots.computeIfAbsent(order.getProperty(), this::sortActiveSlots);
+                lock.readLock().lock();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        try {
+            BitSet matches = evaluate(filters, nameMatches, textMatches);
+            long total = matches.cardinality();
+
+            List<UUID> page = new ArrayList<>(Math.max(0, pageable.getPageSize()));
+            long skip = pageable.getOffset();
+            for (int i = 0; i < sorted.length && page.size() < pageable.getPageSize(); i++) {
+                int slot = sorted[order.isAscending() ? i : sorted.length - 1 - i];
+                if (matches.get(slot)) {
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        page.add(ids[slot]);
+                    }
+                }
+            }
+            return Optional.of(new Result(page, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PostConstruct
+    void initNameCollator() {
+        if (!nameCollation.isBlank()) {
+            nameCollator = Collator.getInstance(Locale.forLanguageTag(nameCollation));
+        }
+    }
+
+    @Override
+    public void apply(ProductSnapshot product) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            put(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.product());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        apply(event.product());
+    }
+
+    /**
+     * Reloads the index from a full scan of the active products.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots()) {
+            load(products);
+        }
+    }
+
+    @Override
+    public Loading startLoading() {
+        if (!enabled) {
+            return Loading.NONE;
+        }
+
+        lock.writeLock().lock();
+        ready = false;
+        slots.clear();
+        categoryOrdinals.clear();
+        categoryBits.clear();
+        sortedSlots.clear();
+        freeSlots.clear();
+        active = new BitSet();
+        size = 0;
+        return Loading.locked(lock.writeLock(), this::put, () -> {
+            ready = true;
+            log.info("Product column store built with {} products", active.cardinality());
+        });
+    }
+
+    private BitSet evaluate(ProductFilterRequest filters, Collection<UUID> nameMatches, Collection<UUID> textMatches) {
+        BitSet matches = (BitSet) active.clone();
+
+        if (filters.getCategoryId() != null) {
+            Integer ordinal = categoryOrdinals.get(filters.getCategoryId());
+            if (ordinal == null) {
+                return new BitSet();
+            }
+            matches.and(categoryBits.get(ordinal));
+        }
+
+        if (nameMatches != null) {
+            matches.and(slotsOf(nameMatches));
+        }
+        if (textMatches != null) {
+            matches.and(slotsOf(textMatches));
+        }
+
+        String name = filters.getName() != null && nameMatches == null
+                ? filters.getName().toLowerCase(Locale.ROOT)
+                : null;
+        long minCents = filters.getMinPrice() != null ? toCents(filters.getMinPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxCents = filters.getMaxPrice() != null ? toCents(filters.getMaxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        int minStock = filters.getMinStock() != null ? filters.getMinStock() : Integer.MIN_VALUE;
+
+        if (name == null && minCents == Long.MIN_VALUE && maxCents == Long.MAX_VALUE && minStock == Integer.MIN_VALUE) {
+            return matches;
+        }
+
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (priceCents[slot] < minCents
+                    || priceCents[slot] > maxCents
+                    || stock[slot] < minStock
+                    || (name != null && !lowerNames[slot].contains(name))) {
+                matches.clear(slot);
+            }
+        }
+        return matches;
+    }
+
+    private BitSet slotsOf(Collection<UUID> matches) {
+        BitSet bits = new BitSet();
+        for (UUID id : matches) {
+            Integer slot = slots.get(id);
+            if (slot != null) {
+                bits.set(slot);
+            }
+        }
+        return bits;
+    }
+
+    private int[] sortActiveSlots(String field) {
+        return active.stream().boxed().sorted(slotOrder(field)).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Ties are broken by id, compared as unsigned bytes like the database does
+     * ({@link UUID#compareTo} compares signed longs).
+     */
+    private Comparator<Integer> slotOrder(String field) {
+        return comparator(field)
+                .thenComparing((a, b) -> Long.compareUnsigned(ids[a].getMostSignificantBits(), ids[b].getMostSignificantBits()))
+                .thenComparing((a, b) -> Long.compareUnsigned(ids[a].getLeastSignificantBits(), ids[b].getLeastSignificantBits()));
+    }
+
+    /**
+     * Keeps the cached sort permutations in step with a single slot change: one binary search
+     * and one array copy per cached field instead of a full re-sort on the next query.
+     * Must be called before the slot's columns change ({@code insert = false}) and after
+     * ({@code insert = true}).
+     */
+    private void relink(int slot, boolean insert) {
+        sortedSlots.replaceAll((field, sorted) -> {
+            Comparator<Integer> order = slotOrder(field);
+            int low = 0;
+            int high = sorted.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = order.compare(sorted[mid], slot);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    low = mid;
+                    break;
+                }
+            }
+
+            boolean present = low < sorted.length && sorted[low] == slot;
+            if (insert && !present) {
+                int[] grown = new int[sorted.length + 1];
+                System.arraycopy(sorted, 0, grown, 0, low);
+                grown[low] = slot;
+                System.arraycopy(sorted, low, grown, low + 1, sorted.length - low);
+                return grown;
+            }
+            if (!insert && present) {
+                int[] shrunk = new int[sorted.length - 1];
+                System.arraycopy(sorted, 0, shrunk, 0, low);
+                System.arraycopy(sorted, low + 1, shrunk, low, sorted.length - low - 1);
+                return shrunk;
+            }
+            return sorted;
+        });
+    }
+
+    private Comparator<Integer> comparator(String field) {
+        return switch (field) {
+            case "name" -> nameCollator != null ? (a, b) -> Arrays.compareUnsigned(nameKeys[a], nameKeys[b]) : null;
+            case "price" -> Comparator.comparingLong(slot -> priceCents[slot]);
+            case "stock" -> Comparator.comparingInt(slot -> stock[slot]);
+            case "createdAt" -> Comparator.comparingLong(slot -> createdAt[slot]);
+            case "updatedAt" -> Comparator.comparingLong(slot -> updatedAt[slot]);
+            default -> null;
+        };
+    }
+
+    private void put(ProductSnapshot product) {
+        Integer slot = slots.get(product.id());
+        if (slot == null) {
+            if (!product.active()) {
+                return;
+            }
+            slot = allocate();
+            slots.put(product.id(), slot);
+        } else {
+            relink(slot, false);
+            categoryBits.get(categoryOrdinal[slot]).clear(slot);
+            if (!product.active()) {
+                release(product.id(), slot);
+                return;
+            }
+        }
+
+        int ordinal = categoryOrdinals.computeIfAbsent(product.categoryId(), id -> {
+            categoryBits.add(new BitSet());
+            return categoryBits.size() - 1;
+        });
+
+        ids[slot] = product.id();
+        lowerNames[slot] = product.name().toLowerCase(Locale.ROOT);
+        if (nameCollator != null) {
+            nameKeys[slot] = nameCollator.getCollationKey(product.name()).toByteArray();
+        }
+        priceCents[slot] = product.price().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        stock[slot] = product.stock() != null ? product.stock() : 0;
+        categoryOrdinal[slot] = ordinal;
+        createdAt[slot] = epochMicros(product.createdAt());
+        updatedAt[slot] = epochMicros(product.updatedAt());
+        categoryBits.get(ordinal).set(slot);
+        active.set(slot);
+        relink(slot, true);
+    }
+
+    private int allocate() {
+        Integer free = freeSlots.poll();
+        if (free != null) {
+            return free;
+        }
+        ensureCapacity(size + 1);
+        return size++;
+    }
+
+    private void release(UUID id, int slot) {
+        slots.remove(id);
+        active.clear(slot);
+        ids[slot] = null;
+        lowerNames[slot] = null;
+        nameKeys[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        lowerNames = Arrays.copyOf(lowerNames, capacity);
+        nameKeys = Arrays.copyOf(nameKeys, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        stock = Arrays.copyOf(stock, capacity);
+        categoryOrdinal = Arrays.copyOf(categoryOrdinal, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+    }
+
+    private static Sort.Order singleOrder(Sort sort) {
+        Iterator<Sort.Order> orders = sort.iterator();
+        if (!orders.hasNext()) {
+            return null;
+        }
+        Sort.Order order = orders.next();
+        return orders.hasNext() ? null : order;
+    }
+
+    private static long toCents(Double value, RoundingMode rounding) {
+        return BigDecimal.valueOf(value).movePointRight(2).setScale(0, rounding).longValueExact();
+    }
+
+    private static long epochMicros(LocalDateTime value) {
+        if (value == null) {
+            return Long.MIN_VALUE;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Typo-tolerant matching of the {@code name} filter over a term dictionary of active
+ * product names.
+ * <p>
+ * Names are split into lower-cased terms stored in a trie with a posting set per term. Each
+ * word of the search is compiled into a {@link LevenshteinAutomaton} that is run against the
+ * trie, so a lookup only visits the dictionary prefixes still within the edit budget instead
+ * of computing a distance per term or per row. A product matches when every search word
+ * matches one of its terms; words of up to 2 characters must match exactly, up to 5 within
+ * one edit and longer words within {@code max-edits}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFuzzyIndex implements ProductSearchIndex {
+
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ProductRepository productRepository;
+
+    private final Map<UUID, Set<String>> terms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+    private volatile boolean ready;
+
+    @Value("${catalog.search.fuzzy.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.search.fuzzy.max-edits:2}")
+    private int maxEdits;
+
+    @Value("${catalog.search.fuzzy.max-expansions:50}")
+    private int maxExpansions;
+
+    @Value("${catalog.search.name-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    /**
+     * Returns the ids of active products matching every word of {@code query} within the
+     * edit budget; empty when the index cannot answer (disabled, still loading, no searchable
+     * words or more than {@code max-candidates} matches, which the caller then leaves to SQL
+     * rather than silently dropping the rest).
+     */
+    public Optional<Set<UUID>> match(String query) {
+        if (!enabled || !ready || query == null) {
+            return Optional.empty();
+        }
+
+        List<String> words = tokenize(query).stream().distinct().toList();
+        if (words.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<UUID>> perWord = new ArrayList<>(words.size());
+            for (String word : words) {
+                Set<UUID> matches = matchWord(word);
+                if (matches.isEmpty()) {
+                    return Optional.of(Set.of());
+                }
+                perWord.add(matches);
+            }
+            perWord.sort(Comparator.comparingInt(Set::size));
+
+            Set<UUID> ids = new HashSet<>();
+            candidates:
+            for (UUID candidate : perWord.get(0)) {
+                for (int i = 1; i < perWord.size(); i++) {
+                    if (!perWord.get(i).contains(candidate)) {
+                        continue candidates;
+                    }
+                }
+                ids.add(candidate);
+                if (ids.size() > maxCandidates) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(ProductSnapshot product) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            remove(product.id());
+            if (product.active()) {
+                add(product.id(), product.name());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.product());
+    }
+
+    /**
+     * Reloads the index from a full scan of the active products.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots()) {
+            load(products);
+        }
+    }
+
+    @Override
+    public Loading startLoading() {
+        if (!enabled) {
+            return Loading.NONE;
+        }
+
+        lock.writeLock().lock();
+        ready = false;
+        terms.clear();
+        root = new Node();
+        return Loading.locked(lock.writeLock(), product -> add(product.id(), product.name()), () -> {
+            ready = true;
+            log.info("Product fuzzy index built with {} products", terms.size());
+        });
+    }
+
+    /**
+     * Runs the automaton for {@code word} over the trie and returns the products having any
+     * matching term. Only the {@code max-expansions} closest terms are used.
+     */
+    private Set<UUID> matchWord(String word) {
+        LevenshteinAutomaton automaton = new LevenshteinAutomaton(word, editsFor(word));
+        List<Expansion> expansions = new ArrayList<>();
+        collect(root, automaton, automaton.start(), expansions);
+        expansions.sort(Comparator.comparingInt(Expansion::distance));
+
+        Set<UUID> matches = new HashSet<>();
+        for (Expansion expansion : expansions.subList(0, Math.min(maxExpansions, expansions.size()))) {
+            matches.addAll(expansion.postings());
+        }
+        return matches;
+    }
+
+    private void collect(Node node, LevenshteinAutomaton automaton, LevenshteinAutomaton.State state,
+                         List<Expansion> expansions) {
+        if (node.postings != null) {
+            int distance = automaton.distance(state);
+            if (distance >= 0) {
+                expansions.add(new Expansion(node.postings, distance));
+            }
+        }
+        for (int i = 0; i < node.labels.length; i++) {
+            LevenshteinAutomaton.State next = automaton.step(state, node.labels[i]);
+            if (automaton.canMatch(next)) {
+                collect(node.children[i], automaton, next, expansions);
+            }
+        }
+    }
+
+    private int editsFor(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? Math.min(1, maxEdits) : maxEdits;
+    }
+
+    private void add(UUID id, String name) {
+        Set<String> productTerms = new HashSet<>(tokenize(name));
+        terms.put(id, productTerms);
+        for (String term : productTerms) {
+            Node node = root;
+            for (int i = 0; i < term.length(); i++) {
+                node = node.childOrCreate(term.charAt(i));
+            }
+            if (node.postings == null) {
+                node.postings = new HashSet<>();
+            }
+            node.postings.add(id);
+        }
+    }
+
+    private void remove(UUID id) {
+        Set<String> previous = terms.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous) {
+            Node node = root;
+            for (int i = 0; i < term.length() && node != null; i++) {
+                node = node.child(term.charAt(i));
+            }
+            if (node != null && node.postings != null) {
+                node.postings.remove(id);
+                if (node.postings.isEmpty()) {
+                    node.postings = null;
+                }
+            }
+        }
+    }
+
+    private static List<String> tokenize(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(TERM_SEPARATOR.split(value.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    private record Expansion(Set<UUID> postings, int distance) {
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Set<UUID> postings;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Loads every {@link ProductSearchIndex} at startup.
+ * <p>
+ * With {@code catalog.search.snapshot.enabled} the indexes are loaded from the mapped
+ * {@link ProductIndexSnapshot} (written first from one table scan when there is none yet)
+ * and then caught up by replaying the products updated after its watermark, inactive ones
+ * included so soft deletes are removed. The snapshot is rewritten every
+ * {@code catalog.search.snapshot.interval}. Without a snapshot the indexes are loaded from
+ * one table scan. Either way each product is decoded once and handed to every index.
+ * <p>
+ * With {@code catalog.search.async-load} loading runs off the startup thread, so readiness
+ * does not wait for it; until an index is ready its callers fall back to SQL.
+ */
+@Slf4j
+@Component
+public class ProductIndexLoader {
+
+    private final List<ProductSearchIndex> indexes;
+    private final ProductIndexSnapshot snapshot;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean asyncLoad;
+    private final Duration snapshotInterval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-index-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductIndexLoader(List<ProductSearchIndex> indexes,
+                              ProductIndexSnapshot snapshot,
+                              ProductRepository productRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${catalog.search.async-load:true}") boolean asyncLoad,
+                              @Value("${catalog.search.snapshot.interval:10m}") Duration snapshotInterval) {
+        this.indexes = indexes;
+        this.snapshot = snapshot;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.asyncLoad = asyncLoad;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (asyncLoad) {
+            executor.execute(this::loadOrLog);
+        } else {
+            load();
+        }
+
+        if (snapshot.isEnabled()) {
+            long interval = snapshotInterval.toMillis();
+            executor.scheduleWithFixedDelay(this::writeSnapshotOrLog, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void load() {
+        long start = System.nanoTime();
+        Optional<ProductIndexSnapshot.Reader> reader = openSnapshot();
+        if (reader.isPresent()) {
+            try (Stream<ProductSnapshot> products = reader.get().products()) {
+                loadAll(products);
+            }
+            int replayed = replay(reader.get().watermark());
+            log.info("Product indexes loaded from snapshot ({} products, {} replayed) in {} ms",
+                    reader.get().count(), replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots()) {
+                loadAll(products);
+            }
+        });
+        log.info("Product indexes loaded from the database in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Optional<ProductIndexSnapshot.Reader> openSnapshot() {
+        if (!snapshot.isEnabled()) {
+            return Optional.empty();
+        }
+
+        Optional<ProductIndexSnapshot.Reader> reader = snapshot.open();
+        if (reader.isEmpty()) {
+            writeSnapshotOrLog();
+            reader = snapshot.open();
+        }
+        return reader;
+    }
+
+    /**
+     * Loads every index from one pass over {@code products}, so each record is decoded once.
+     */
+    private void loadAll(Stream<ProductSnapshot> products) {
+        List<ProductSearchIndex.Loading> loadings = new ArrayList<>(indexes.size());
+        try {
+            for (ProductSearchIndex index : indexes) {
+                loadings.add(index.startLoading());
+            }
+            products.forEach(product -> loadings.forEach(loading -> loading.add(product)));
+            loadings.forEach(ProductSearchIndex.Loading::complete);
+        } finally {
+            loadings.forEach(ProductSearchIndex.Loading::close);
+        }
+    }
+
+    private int replay(LocalDateTime watermark) {
+        if (watermark == null) {
+            return 0;
+        }
+
+        int[] replayed = {0};
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ProductSnapshot> changed = productRepository.streamSnapshotsUpdatedAfter(watermark)) {
+                changed.forEach(product -> {
+                    indexes.forEach(index -> index.apply(product));
+                    replayed[0]++;
+                });
+            }
+        });
+        return replayed[0];
+    }
+
+    private void loadOrLog() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("Loading product indexes failed", e);
+        }
+    }
+
+    private void writeSnapshotOrLog() {
+        try {
+            snapshot.write();
+        } catch (RuntimeException e) {
+            log.warn("Writing product index snapshot failed", e);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compact binary copy of the active products the search indexes are built from, so a
+ * restarting instance can load them from a memory-mapped local file instead of scanning
+ * the {@code products} table.
+ * <p>
+ * Layout (big-endian): magic, version and watermark; one record per product, each preceded
+ * by a {@code 1} byte; a {@code 0} byte; then the record count and the magic again, so a
+ * truncated file is rejected. The watermark is taken {@code replay-overlap} before the scan
+ * starts: every product updated after it must be replayed from the database, which also
+ * covers writes whose transaction was still open while the file was written.
+ */
+@Slf4j
+@Component
+public class ProductIndexSnapshot {
+
+    private static final int MAGIC = 0x50435831;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int TRAILER_SIZE = 8;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path path;
+    private final Duration replayOverlap;
+
+    public ProductIndexSnapshot(ProductRepository productRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${catalog.search.snapshot.enabled:false}") boolean enabled,
+                                @Value("${catalog.search.snapshot.path:data/catalog-index.snapshot}") Path path,
+                                @Value("${catalog.search.snapshot.replay-overlap:1m}") Duration replayOverlap) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.path = path;
+        this.replayOverlap = replayOverlap;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Writes a new snapshot from a scan of the active products and atomically replaces the
+     * previous file.
+     */
+    public void write() {
+        LocalDateTime watermark = LocalDateTime.now().minus(replayOverlap);
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                long count = transactionTemplate.execute(status -> {
+                    try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots();
+                         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                        return writeTo(out, watermark, products);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                log.info("Product index snapshot written with {} products to {}", count, path);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the snapshot file; empty when disabled, missing, too large to map or not a complete
+     * snapshot of this version.
+     */
+    public Optional<Reader> open() {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 1 + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                log.warn("Ignoring product index snapshot {} of {} bytes", path, size);
+                return Optional.empty();
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || buffer.getInt((int) size - 4) != MAGIC || buffer.get((int) size - TRAILER_SIZE - 1) != 0) {
+                log.warn("Ignoring incomplete or incompatible product index snapshot {}", path);
+                return Optional.empty();
+            }
+            return Optional.of(new Reader(buffer, fromMicros(buffer.getLong(8)), buffer.getInt((int) size - 8)));
+        } catch (IOException e) {
+            log.warn("Could not map product index snapshot {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    private static long writeTo(DataOutputStream out, LocalDateTime watermark, Stream<ProductSnapshot> products) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(toMicros(watermark));
+
+        long count = 0;
+        for (ProductSnapshot product : (Iterable<ProductSnapshot>) products::iterator) {
+            out.writeByte(1);
+            writeUuid(out, product.id());
+            writeString(out, product.name());
+            writeString(out, product.description());
+            writeString(out, product.slug());
+            writeString(out, product.imageUrl());
+            out.writeLong(product.price().unscaledValue().longValueExact());
+            out.writeInt(product.price().scale());
+            out.writeInt(product.stock() != null ? product.stock() : Integer.MIN_VALUE);
+            writeUuid(out, product.categoryId());
+            out.writeLong(toMicros(product.createdAt()));
+            out.writeLong(toMicros(product.updatedAt()));
+            count++;
+        }
+
+        out.writeByte(0);
+        out.writeInt((int) count);
+        out.writeInt(MAGIC);
+        return count;
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeBoolean(id != null);
+        if (id != null) {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static long toMicros(LocalDateTime value) {
+        if (value == null) {
+            return Long.MIN_VALUE;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == Long.MIN_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Read-only view of a mapped snapshot. Each call to {@link #products()} decodes the records
+     * again from the mapping, so indexes can load from it one after another.
+     */
+    public static final class Reader {
+
+        private final ByteBuffer buffer;
+        private final LocalDateTime watermark;
+        private final int count;
+
+        private Reader(ByteBuffer buffer, LocalDateTime watermark, int count) {
+            this.buffer = buffer;
+            this.watermark = watermark;
+            this.count = count;
+        }
+
+        public LocalDateTime watermark() {
+            return watermark;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public Stream<ProductSnapshot> products() {
+            ByteBuffer records = buffer.duplicate().position(HEADER_SIZE);
+            Spliterator<ProductSnapshot> spliterator = new Spliterators.AbstractSpliterator<>(count,
+                    Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED) {
+                @Override
+                public boolean tryAdvance(Consumer<? super ProductSnapshot> action) {
+                    if (records.get() == 0) {
+                        records.position(records.position() - 1);
+                        return false;
+                    }
+                    action.accept(read(records));
+                    return true;
+                }
+            };
+            return StreamSupport.stream(spliterator, false);
+        }
+
+        private static ProductSnapshot read(ByteBuffer in) {
+            UUID id = readUuid(in);
+            String name = readString(in);
+            String description = readString(in);
+            String slug = readString(in);
+            String imageUrl = readString(in);
+            long unscaledPrice = in.getLong();
+            BigDecimal price = new BigDecimal(BigInteger.valueOf(unscaledPrice), in.getInt());
+            int stock = in.getInt();
+            UUID categoryId = readUuid(in);
+            LocalDateTime createdAt = fromMicros(in.getLong());
+            LocalDateTime updatedAt = fromMicros(in.getLong());
+            return new ProductSnapshot(id, name, description, slug, imageUrl, price,
+                    stock != Integer.MIN_VALUE ? stock : null, categoryId, true, createdAt, updatedAt);
+        }
+
+        private static UUID readUuid(ByteBuffer in) {
+            return in.get() != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+        }
+
+        private static String readString(ByteBuffer in) {
+            int length = in.getInt();
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Trigram inverted index over the names of active products.
+ * <p>
+ * Resolves the {@code name} filter (case-insensitive substring, same semantics as
+ * {@code lower(name) LIKE '%term%'}) to a set of candidate ids, so the SQL query can
+ * seek by primary key instead of scanning the whole table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductNameIndex implements ProductSearchIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final ProductRepository productRepository;
+
+    private final Map<UUID, String> names = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    @Value("${catalog.search.name-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.search.name-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    /**
+     * Returns the ids of active products whose name contains {@code term}, or empty
+     * when the index cannot answer (disabled, still loading, term shorter than a trigram
+     * or too many matches to be worth an IN list). Callers then fall back to SQL.
+     */
+    public Optional<Set<UUID>> match(String term) {
+        if (!enabled || !ready || term == null || term.isBlank()) {
+            return Optional.empty();
+        }
+
+        String needle = normalize(term);
+        if (needle.length() < GRAM_SIZE) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<UUID> rarest = null;
+            for (String gram : grams(needle)) {
+                Set<UUID> ids = postings.get(gram);
+                if (ids == null) {
+                    return Optional.of(Set.of());
+                }
+                if (rarest == null || ids.size() < rarest.size()) {
+                    rarest = ids;
+                }
+            }
+
+            Set<UUID> matches = new HashSet<>();
+            for (UUID id : rarest) {
+                if (names.get(id).contains(needle)) {
+                    matches.add(id);
+                    if (matches.size() > maxCandidates) {
+                        return Optional.empty();
+                    }
+                }
+            }
+            return Optional.of(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(ProductSnapshot product) {
+        lock.writeLock().lock();
+        try {
+            remove(product.id());
+            if (product.active()) {
+                add(product.id(), product.name());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.product());
+    }
+
+    /**
+     * Reloads the index from a full scan of the active products.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots()) {
+            load(products);
+        }
+    }
+
+    @Override
+    public Loading startLoading() {
+        if (!enabled) {
+            return Loading.NONE;
+        }
+
+        lock.writeLock().lock();
+        ready = false;
+        names.clear();
+        postings.clear();
+        return Loading.locked(lock.writeLock(), product -> add(product.id(), product.name()), () -> {
+            ready = true;
+            log.info("Product name index built with {} products and {} trigrams", names.size(), postings.size());
+        });
+    }
+
+    private void add(UUID id, String name) {
+        String normalized = normalize(name);
+        names.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(UUID id) {
+        String previous = names.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.model.ProductSnapshot;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory search structure derived from the active products. Loaded at startup by
+ * {@link ProductIndexLoader} and kept current from product change events.
+ */
+public interface ProductSearchIndex {
+
+    /**
+     * Replaces the contents of the index with {@code products}, which are all active.
+     */
+    default void load(Stream<ProductSnapshot> products) {
+        try (Loading loading = startLoading()) {
+            products.forEach(loading::add);
+            loading.complete();
+        }
+    }
+
+    /**
+     * Starts replacing the contents of the index with the products then passed to
+     * {@link Loading#add}, so several indexes can be loaded from one pass over the products.
+     * The index is unavailable, and applying changes blocks, until the loading is closed.
+     */
+    Loading startLoading();
+
+    /**
+     * Applies the current state of one product: active products are added or replaced,
+     * inactive ones removed. Applying the same state twice has no further effect.
+     */
+    void apply(ProductSnapshot product);
+
+    /**
+     * An index being replaced. Closing it makes the index available again only if it was
+     * completed; a loading abandoned part-way leaves the index unavailable.
+     */
+    interface Loading extends AutoCloseable {
+
+        Loading NONE = new Loading() {
+            @Override
+            public void add(ProductSnapshot product) {
+            }
+
+            @Override
+            public void complete() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        /** Adds one active product. */
+        void add(ProductSnapshot product);
+
+        /** Marks every product as added. */
+        void complete();
+
+        @Override
+        void close();
+
+        /**
+         * Loading under an already held write {@code lock}, which closing releases after
+         * running {@code publish} for a completed loading.
+         */
+        static Loading locked(Lock lock, Consumer<ProductSnapshot> add, Runnable publish) {
+            return new Loading() {
+                private boolean complete;
+
+                @Override
+                public void add(ProductSnapshot product) {
+                    add.accept(product);
+                }
+
+                @Override
+                public void complete() {
+                    complete = true;
+                }
+
+                @Override
+                public void close() {
+                    try {
+                        if (complete) {
+                            publish.run();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.dto.response.ProductSuggestion;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.event.ProductSalesChangedEvent;
+import com.example.catalog.module.product.model.ProductSales;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Prefix trie over the names of active products for search-box autocomplete.
+ * <p>
+ * Every name is inserted from its start and from the start of each following word, so
+ * "mou" completes "Wireless Mouse". Each node keeps the top-k completions of its subtree,
+ * ranked by units sold, so a lookup is a walk down the prefix and a copy of at most k
+ * entries.
+ * <p>
+ * Chains of nodes with a single child and no terminal are collapsed into one edge labelled
+ * with the whole substring (a radix tree), so a key adds at most two nodes (its leaf and the
+ * split of an existing edge) instead of one per character; with a name inserted once per
+ * word, that keeps the node count proportional to the number of words. Children are sorted
+ * by the first character of their edge in parallel arrays rather than maps, and a leaf with
+ * at most k terminals shares one array for its terminals and its top-k.
+ * <p>
+ * A node's top-k is exactly the best k of its own terminal entries and its children's
+ * top-k, so writes only recompute the nodes on the changed paths, bottom-up. Units sold
+ * are aggregated from the orders when the index loads, then follow committed orders and
+ * cancellations through {@link ProductSalesChangedEvent}; they are kept for a product across
+ * updates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSuggestIndex implements ProductSearchIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::unitsSold).reversed()
+            .thenComparingInt(entry -> entry.name().length())
+            .thenComparing(Entry::name)
+            .thenComparing(Entry::id);
+
+    private final ProductRepository productRepository;
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<UUID, Long> unitsSold = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+    private volatile boolean ready;
+
+    @Value("${catalog.search.suggest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.search.suggest.top-k:10}")
+    private int topK;
+
+    /**
+     * Returns up to {@code limit} active products whose name, or a word of it, starts with
+     * {@code prefix} (case-insensitive), most sold first. Empty while the index is loading.
+     */
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        if (!enabled || !ready || prefix == null || limit <= 0) {
+            return List.of();
+        }
+
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+
+            int size = Math.min(limit, node.top.length);
+            List<ProductSuggestion> suggestions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Entry entry = node.top[i];
+                suggestions.add(new ProductSuggestion(entry.id(), entry.name(), entry.slug()));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(ProductSnapshot product) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(product.id());
+            if (previous != null) {
+                for (String key : keys(previous.name())) {
+                    remove(key, previous.id());
+                }
+            }
+            if (product.active()) {
+                Entry entry = entryOf(product);
+                entries.put(entry.id(), entry);
+                for (String key : keys(entry.name())) {
+                    recomputePath(insert(key, entry));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.product());
+    }
+
+    /**
+     * Re-ranks the products whose units sold moved: each of their keys only recomputes the
+     * path down to it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSalesChanged(ProductSalesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            event.unitsSold().forEach((id, delta) -> {
+                long sold = unitsSold.merge(id, delta, Long::sum);
+                Entry previous = entries.get(id);
+                if (previous == null) {
+                    return;
+                }
+                Entry updated = new Entry(id, previous.name(), previous.slug(), sold);
+                entries.put(id, updated);
+                for (String key : keys(updated.name())) {
+                    List<Node> path = path(key);
+                    if (path != null) {
+                        Node node = path.get(path.size() - 1);
+                        node.terminals = append(without(node.terminals, id), updated);
+                        recomputePath(path);
+                    }
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads the index from a full scan of the active products.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots()) {
+            load(products);
+        }
+    }
+
+    @Override
+    public Loading startLoading() {
+        if (!enabled) {
+            return Loading.NONE;
+        }
+
+        List<ProductSales> sales = productRepository.findUnitsSold();
+        lock.writeLock().lock();
+        ready = false;
+        entries.clear();
+        unitsSold.clear();
+        root = new Node();
+        sales.forEach(product -> unitsSold.put(product.productId(), product.unitsSold()));
+        return Loading.locked(lock.writeLock(), product -> {
+            Entry entry = entryOf(product);
+            entries.put(entry.id(), entry);
+            for (String key : keys(entry.name())) {
+                insert(key, entry);
+            }
+        }, () -> {
+            recomputeSubtree(root);
+            ready = true;
+            log.info("Product suggest index built with {} products", entries.size());
+        });
+    }
+
+    private Entry entryOf(ProductSnapshot product) {
+        return new Entry(product.id(), product.name(), product.slug(), unitsSold.getOrDefault(product.id(), 0L));
+    }
+
+    /**
+     * The node whose subtree holds exactly the keys starting with {@code prefix}, which may
+     * end inside the edge leading to it; {@code null} when no key starts with it.
+     */
+    private Node find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return null;
+            }
+            int matched = commonPrefix(child.edge, prefix, i);
+            if (matched < child.edge.length() && i + matched < prefix.length()) {
+                return null;
+            }
+            node = child;
+            i += matched;
+        }
+        return node;
+    }
+
+    /**
+     * Adds {@code entry} as a terminal of {@code key} and returns the path from the root,
+     * without recomputing any top-k. An edge the key leaves part-way is split, and the new
+     * middle node is on the returned path.
+     */
+    private List<Node> insert(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.addChild(child);
+                path.add(child);
+                node = child;
+                break;
+            }
+
+            int matched = commonPrefix(child.edge, key, i);
+            if (matched < child.edge.length()) {
+                child = node.split(child, matched);
+            }
+            path.add(child);
+            node = child;
+            i += matched;
+        }
+        node.terminals = append(node.terminals, entry);
+        return path;
+    }
+
+    /**
+     * The nodes from the root down to the node of {@code key}, or {@code null} when the key
+     * is not in the trie.
+     */
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            if (node == null || !key.startsWith(node.edge, i)) {
+                return null;
+            }
+            path.add(node);
+            i += node.edge.length();
+        }
+        return path;
+    }
+
+    private void remove(String key, UUID id) {
+        List<Node> path = path(key);
+        if (path == null) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        node.terminals = without(node.terminals, id);
+
+        // Drop nodes left empty and re-collapse the ones left with a single child, bottom-up.
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (current.terminals.length > 0 || current.children.length > 1) {
+                continue;
+            }
+            if (current.children.length == 0) {
+                parent.removeChild(current.edge.charAt(0));
+                path.remove(depth);
+            } else {
+                Node only = current.children[0];
+                only.edge = current.edge + only.edge;
+                parent.replaceChild(only);
+                path.set(depth, only);
+            }
+        }
+        recomputePath(path);
+    }
+
+    private void recomputePath(List<Node> path) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            recompute(path.get(depth));
+        }
+    }
+
+    private void recomputeSubtree(Node node) {
+        for (Node child : node.children) {
+            recomputeSubtree(child);
+        }
+        recompute(node);
+    }
+
+    private void recompute(Node node) {
+        if (node.children.length == 0 && node.terminals.length <= topK) {
+            Arrays.sort(node.terminals, RANKING);
+            node.top = node.terminals;
+            return;
+        }
+
+        List<Entry> candidates = new ArrayList<>(Arrays.asList(node.terminals));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANKING);
+
+        Set<UUID> seen = new HashSet<>();
+        List<Entry> top = new ArrayList<>(topK);
+        for (Entry candidate : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            if (seen.add(candidate.id())) {
+                top.add(candidate);
+            }
+        }
+        node.top = top.toArray(Entry[]::new);
+    }
+
+    private static int commonPrefix(String edge, String key, int from) {
+        int length = Math.min(edge.length(), key.length() - from);
+        int matched = 0;
+        while (matched < length && edge.charAt(matched) == key.charAt(from + matched)) {
+            matched++;
+        }
+        return matched;
+    }
+
+    private static Set<String> keys(String name) {
+        String normalized = normalize(name);
+        Set<String> keys = new LinkedHashSet<>();
+        if (!normalized.isEmpty()) {
+            keys.add(normalized);
+        }
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : WHITESPACE.matcher(value.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        Entry[] result = Arrays.copyOf(entries, entries.length + 1);
+        result[entries.length] = entry;
+        return result;
+    }
+
+    private static Entry[] without(Entry[] entries, UUID id) {
+        return Arrays.stream(entries).filter(entry -> !entry.id().equals(id)).toArray(Entry[]::new);
+    }
+
+    private record Entry(UUID id, String name, String slug, long unitsSold) {
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        /**
+         * Label of the edge from the parent; empty only for the root.
+         */
+        private String edge;
+        /**
+         * First character of each child's edge, sorted, parallel to {@link #children}.
+         */
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] terminals = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        Node() {
+            this("");
+        }
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node child) {
+            int insertAt = -Arrays.binarySearch(labels, child.edge.charAt(0)) - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            newLabels[insertAt] = child.edge.charAt(0);
+            newChildren[insertAt] = child;
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        /**
+         * Puts {@code child} in place of the child whose edge starts with the same character.
+         */
+        void replaceChild(Node child) {
+            children[Arrays.binarySearch(labels, child.edge.charAt(0))] = child;
+        }
+
+        /**
+         * Splits the edge to {@code child} after {@code at} characters and returns the new
+         * middle node, whose top-k is left to the caller to recompute.
+         */
+        Node split(Node child, int at) {
+            Node middle = new Node(child.edge.substring(0, at));
+            child.edge = child.edge.substring(at);
+            middle.addChild(child);
+            replaceChild(middle);
+            return middle;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+    }
+}
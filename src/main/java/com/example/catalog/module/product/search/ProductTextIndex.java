@@ -0,0 +1,229 @@
+package com.example.catalog.module.product.search;
+
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-process full-text index over the name and description of active products, ranked
+ * with Okapi BM25.
+ * <p>
+ * Each term keeps a postings map of product id to term frequency, and each product its
+ * document length, so a write only touches the postings of the terms it adds or removes.
+ * Name terms are counted {@code name-boost} times, which weighs a hit in the name above one
+ * in the description without a second set of postings.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductTextIndex implements ProductSearchIndex {
+
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ProductRepository productRepository;
+
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+    private final Map<UUID, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<UUID, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long totalLength;
+    private volatile boolean ready;
+
+    @Value("${catalog.search.text.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.search.text.name-boost:2}")
+    private int nameBoost;
+
+    @Value("${catalog.search.text.max-hits:1000}")
+    private int maxHits;
+
+    /**
+     * The distinct terms of a query, at most {@value #MAX_QUERY_TERMS}. A product matches when
+     * it contains any of them; the LIKE fallback in SQL matches the same terms.
+     */
+    public static List<String> queryTerms(String query) {
+        return tokenize(query).stream().distinct().limit(MAX_QUERY_TERMS).toList();
+    }
+
+    /**
+     * Scores the active products containing any term of {@code query}, highest score first.
+     * Empty when the index cannot answer (disabled, still loading, or more than
+     * {@code max-hits} hits): the other filters only run on the returned ids, so a truncated
+     * hit set would silently drop matches, and callers fall back to SQL instead.
+     */
+    public Optional<LinkedHashMap<UUID, Double>> search(String query) {
+        if (!enabled || !ready || query == null) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = score(query);
+            if (scores.size() > maxHits) {
+                return Optional.empty();
+            }
+
+            LinkedHashMap<UUID, Double> ranked = new LinkedHashMap<>();
+            scores.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> ranked.put(entry.getKey(), entry.getValue()));
+            return Optional.of(ranked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores of {@code query} for the given products, which were already matched elsewhere;
+     * products without a hit (or all of them, while the index cannot answer) score zero.
+     */
+    public Map<UUID, Double> score(String query, Collection<UUID> ids) {
+        Map<UUID, Double> scores = new HashMap<>();
+        if (enabled && ready && query != null) {
+            lock.readLock().lock();
+            try {
+                Map<UUID, Double> all = score(query);
+                ids.forEach(id -> scores.put(id, all.getOrDefault(id, 0.0)));
+                return scores;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        ids.forEach(id -> scores.put(id, 0.0));
+        return scores;
+    }
+
+    @Override
+    public void apply(ProductSnapshot product) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            remove(product.id());
+            if (product.active()) {
+                add(product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event.product());
+    }
+
+    /**
+     * Reloads the index from a full scan of the active products.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots()) {
+            load(products);
+        }
+    }
+
+    @Override
+    public Loading startLoading() {
+        if (!enabled) {
+            return Loading.NONE;
+        }
+
+        lock.writeLock().lock();
+        ready = false;
+        postings.clear();
+        documents.clear();
+        lengths.clear();
+        totalLength = 0;
+        return Loading.locked(lock.writeLock(), this::add, () -> {
+            ready = true;
+            log.info("Product text index built with {} products and {} terms", documents.size(), postings.size());
+        });
+    }
+
+    private Map<UUID, Double> score(String query) {
+        Map<UUID, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 0 : (double) totalLength / documents.size();
+        for (String term : queryTerms(query)) {
+            Map<UUID, Integer> termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+
+            double idf = Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            termPostings.forEach((id, frequency) -> {
+                double norm = K1 * (1 - B + B * lengths.get(id) / averageLength);
+                scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    private void add(ProductSnapshot product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(product.name())) {
+            frequencies.merge(term, nameBoost, Integer::sum);
+        }
+        for (String term : tokenize(product.description())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(product.id(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(product.id(), frequencies);
+        lengths.put(product.id(), length);
+        totalLength += length;
+    }
+
+    private void remove(UUID id) {
+        Map<String, Integer> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= lengths.remove(id);
+        previous.keySet().forEach(term -> {
+            Map<UUID, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(id);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+
+    private static List<String> tokenize(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(TERM_SEPARATOR.split(value.toLowerCase(Locale.ROOT)))
+                .filter(term -> term.length() > 1)
+                .toList();
+    }
+}
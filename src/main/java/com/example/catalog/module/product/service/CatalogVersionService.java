@@ -0,0 +1,72 @@
+package com.example.catalog.module.product.service;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Version of the catalog as a whole: the latest {@code catalogUpdatedAt} of any product, or
+ * {@code updatedAt} of any category. Every product write (including soft deletes, bulk imports
+ * and bulk patches) bumps it, so it is a valid validator for listing responses. Orders and
+ * cancellations only move stock and stamp {@code updatedAt} alone: listings that filter or sort
+ * on stock are validated by {@link #currentWithStock()} instead, and the others keep their
+ * version under steady order traffic. All lookups are served by an index.
+ * <p>
+ * updatedAt is stamped before commit, so a slow transaction can commit behind a newer version
+ * already handed out and the client would keep getting 304 for a listing it never saw. No
+ * version is given out until the latest write is older than {@code settle-time}, by which time
+ * every write stamped before it has committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService {
+
+    /**
+     * Sorts whose order moves with stock: {@code updatedAt} is stamped by every stock move.
+     */
+    private static final Set<String> STOCK_SORTS = Set.of("stock", "updatedAt");
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Value("${catalog.version.settle-time:5s}")
+    private Duration settleTime;
+
+    /**
+     * Empty while the catalog has no rows or its latest write is still settling; listings are
+     * then served without a validator.
+     */
+    public Optional<LocalDateTime> current() {
+        return settled(productRepository.findLastCatalogUpdatedAt());
+    }
+
+    /**
+     * Also moves with every order and cancellation, so under steady traffic it is mostly empty.
+     */
+    public Optional<LocalDateTime> currentWithStock() {
+        return settled(productRepository.findLastUpdatedAt());
+    }
+
+    /**
+     * The version for a listing with the given stock filter and sort field.
+     */
+    public Optional<LocalDateTime> forListing(Integer minStock, String sortField) {
+        return minStock != null || STOCK_SORTS.contains(sortField) ? currentWithStock() : current();
+    }
+
+    private Optional<LocalDateTime> settled(Optional<LocalDateTime> lastProductUpdate) {
+        LocalDateTime settled = LocalDateTime.now().minus(settleTime);
+        return Stream.of(lastProductUpdate, categoryRepository.findLastUpdatedAt())
+                .flatMap(Optional::stream)
+                .max(LocalDateTime::compareTo)
+                .filter(version -> !version.isAfter(settled));
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.catalog.module.product.service;
+
+import com.example.catalog.exception.BadRequestException;
+import com.example.catalog.exception.ResourceNotFoundException;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.event.ProductStockChangedEvent;
+import com.example.catalog.module.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flash-sale mode for products whose single stock row would become the lock every order
+ * queues on.
+ * <p>
+ * The stock of a flash-sale product is split across N {@code product_stock_cells} rows. An
+ * order decrements one cell that holds its whole quantity, starting at a random one, so
+ * concurrent orders spread over N row locks and the product row is not locked at all. When no
+ * single cell is enough but their sum is, the order locks every cell in cell order and takes
+ * the quantity from as many as it needs. Every {@code rebalance-interval} the cells are evened
+ * out and their sum is written to {@code products.stock}, which is therefore eventually
+ * consistent; cells are only ever decremented with {@code stock >= ?}, so neither the cells
+ * nor the sum go negative. Writers lock the product row before its cells, so enabling,
+ * disabling and rebalancing do not deadlock with each other.
+ * <p>
+ * Nothing is cached per instance: whether a product is on flash sale is read from its row
+ * (see {@link ProductStockService}), so every node switches paths as soon as enabling or
+ * disabling commits. Stock cannot be edited through the product endpoints while the mode is
+ * on, since the next rebalance would overwrite it; turn the mode off to edit it.
+ */
+@Slf4j
+@Service
+public class ProductFlashSaleService {
+
+    private static final String TAKE_SQL = """
+            update product_stock_cells
+            set stock = stock - ?
+            where product_id = ? and cell = ? and stock >= ?
+            """;
+
+    private static final String TAKE_ALL_SQL = """
+            update product_stock_cells
+            set stock = stock - ?
+            where product_id = ? and cell = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxCells;
+    private final Duration rebalanceInterval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-flash-sale-rebalancer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductFlashSaleService(JdbcTemplate jdbcTemplate,
+                                   ProductRepository productRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${catalog.flash-sale.max-cells:64}") int maxCells,
+                                   @Value("${catalog.flash-sale.rebalance-interval:2s}") Duration rebalanceInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxCells = maxCells;
+        this.rebalanceInterval = rebalanceInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long interval = rebalanceInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::rebalanceOrLog, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean isFlashSale(UUID productId) {
+        return Boolean.TRUE.equals(jdbcTemplate.query("select flash_sale from products where id = ?",
+                rs -> rs.next() ? rs.getBoolean(1) : null, productId));
+    }
+
+    /**
+     * Splits the current stock of the product evenly across {@code cells} counters.
+     */
+    @Transactional
+    public void enable(UUID productId, int cells) {
+        if (cells < 2 || cells > maxCells) {
+            throw new BadRequestException("cells must be between 2 and " + maxCells);
+        }
+        if (productRepository.findByIdAndActiveTrue(productId).isEmpty()) {
+            throw new ResourceNotFoundException("Product not found");
+        }
+        List<Integer> locked = jdbcTemplate.queryForList(
+                "select stock from products where id = ? and flash_sale = false for update", Integer.class, productId);
+        if (locked.isEmpty()) {
+            throw new BadRequestException("Flash sale is already enabled for product: " + productId);
+        }
+
+        int stock = locked.get(0);
+        List<Object[]> rows = new ArrayList<>(cells);
+        for (int cell = 0; cell < cells; cell++) {
+            rows.add(new Object[]{productId, cell, stock / cells + (cell < stock % cells ? 1 : 0)});
+        }
+        jdbcTemplate.batchUpdate("insert into product_stock_cells (product_id, cell, stock) values (?, ?, ?)", rows);
+        jdbcTemplate.update("update products set flash_sale = true, updated_at = ? where id = ?", now(), productId);
+
+        publishChange(productId);
+        log.info("Flash sale enabled for product {} with {} cells", productId, cells);
+    }
+
+    /**
+     * Folds the cells back into {@code products.stock} and deletes them.
+     */
+    @Transactional
+    public void disable(UUID productId) {
+        List<Integer> locked = jdbcTemplate.queryForList(
+                "select stock from products where id = ? and flash_sale = true for update", Integer.class, productId);
+        if (locked.isEmpty()) {
+            throw new BadRequestException("Flash sale is not enabled for product: " + productId);
+        }
+
+        int stock = jdbcTemplate.queryForList(
+                "select stock from product_stock_cells where product_id = ? order by cell for update", Integer.class, productId)
+                .stream().mapToInt(Integer::intValue).sum();
+        jdbcTemplate.update("delete from product_stock_cells where product_id = ?", productId);
+        jdbcTemplate.update("update products set stock = ?, flash_sale = false, updated_at = ? where id = ?", stock, now(), productId);
+
+        publishChange(productId);
+        log.info("Flash sale disabled for product {} with {} units left", productId, stock);
+    }
+
+    /**
+     * Takes {@code quantity} out of the cells of a flash-sale product, or returns false when
+     * they do not hold enough between them. Joins the caller's transaction, which keeps the
+     * cells it took from locked until it commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean take(UUID productId, int quantity) {
+        List<Integer> candidates = jdbcTemplate.queryForList(
+                "select cell from product_stock_cells where product_id = ? and stock >= ?", Integer.class, productId, quantity);
+        if (!candidates.isEmpty()) {
+            int start = ThreadLocalRandom.current().nextInt(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                int cell = candidates.get((start + i) % candidates.size());
+                if (jdbcTemplate.update(TAKE_SQL, quantity, productId, cell, quantity) == 1) {
+                    return true;
+                }
+            }
+        }
+        return takeAcrossCells(productId, quantity);
+    }
+
+    /**
+     * Adds {@code quantity} to one cell of a flash-sale product; false when it has no cells.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean give(UUID productId, int quantity) {
+        List<Integer> cells = jdbcTemplate.queryForList(
+                "select cell from product_stock_cells where product_id = ?", Integer.class, productId);
+        if (cells.isEmpty()) {
+            return false;
+        }
+        int cell = cells.get(ThreadLocalRandom.current().nextInt(cells.size()));
+        return jdbcTemplate.update("update product_stock_cells set stock = stock + ? where product_id = ? and cell = ?",
+                quantity, productId, cell) == 1;
+    }
+
+    /**
+     * Evens out the cells of every flash-sale product and writes their sum to
+     * {@code products.stock}, one short transaction per product.
+     */
+    public void rebalance() {
+        for (UUID productId : jdbcTemplate.queryForList("select distinct product_id from product_stock_cells", UUID.class)) {
+            transactionTemplate.executeWithoutResult(status -> rebalance(productId));
+        }
+    }
+
+    private void rebalance(UUID productId) {
+        List<Integer> locked = jdbcTemplate.queryForList(
+                "select stock from products where id = ? and flash_sale = true for update", Integer.class, productId);
+        if (locked.isEmpty()) {
+            return;
+        }
+
+        List<Integer> cells = jdbcTemplate.queryForList(
+                "select stock from product_stock_cells where product_id = ? order by cell for update", Integer.class, productId);
+        if (cells.isEmpty()) {
+            return;
+        }
+
+        int total = cells.stream().mapToInt(Integer::intValue).sum();
+        List<Object[]> changed = new ArrayList<>();
+        for (int cell = 0; cell < cells.size(); cell++) {
+            int target = total / cells.size() + (cell < total % cells.size() ? 1 : 0);
+            if (cells.get(cell) != target) {
+                changed.add(new Object[]{target, productId, cell});
+            }
+        }
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate("update product_stock_cells set stock = ? where product_id = ? and cell = ?", changed);
+        }
+
+        if (locked.get(0) != total) {
+            jdbcTemplate.update("update products set stock = ?, updated_at = ? where id = ?", total, now(), productId);
+            productRepository.findSnapshotsByIdIn(List.of(productId))
+                    .forEach(snapshot -> eventPublisher.publishEvent(new ProductStockChangedEvent(snapshot)));
+        }
+    }
+
+    /**
+     * Slow path once the stock is spread too thin for any single cell: locks every cell in cell
+     * order, like the writers do, and drains them in that order until the quantity is covered.
+     */
+    private boolean takeAcrossCells(UUID productId, int quantity) {
+        List<Integer> cells = jdbcTemplate.queryForList(
+                "select stock from product_stock_cells where product_id = ? order by cell for update", Integer.class, productId);
+        if (cells.stream().mapToInt(Integer::intValue).sum() < quantity) {
+            return false;
+        }
+
+        List<Object[]> taken = new ArrayList<>();
+        int left = quantity;
+        for (int cell = 0; cell < cells.size() && left > 0; cell++) {
+            int amount = Math.min(left, cells.get(cell));
+            if (amount > 0) {
+                taken.add(new Object[]{amount, productId, cell});
+                left -= amount;
+            }
+        }
+        jdbcTemplate.batchUpdate(TAKE_ALL_SQL, taken);
+        return true;
+    }
+
+    private void rebalanceOrLog() {
+        try {
+            rebalance();
+        } catch (RuntimeException e) {
+            log.warn("Rebalancing flash-sale stock failed", e);
+        }
+    }
+
+    private void publishChange(UUID productId) {
+        productRepository.findSnapshotsByIdIn(List.of(productId))
+                .forEach(snapshot -> eventPublisher.publishEvent(new ProductChangedEvent(snapshot)));
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
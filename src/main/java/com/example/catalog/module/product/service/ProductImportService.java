@@ -0,0 +1,230 @@
+package com.example.catalog.module.product.service;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductImportResponse;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk product import. Rows are read as a stream and handled in chunks of
+ * {@code catalog.import.batch-size}: each chunk is validated in parallel, gets its ids and slugs
+ * assigned up front and is written as one JDBC batch in its own transaction. A chunk the database
+ * rejects is retried row by row so a single bad row does not fail its neighbours.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final String INSERT_SQL = """
+            insert into products (id, name, description, price, stock, image_url, category_id, slug,
+                                  created_at, updated_at, catalog_updated_at, active)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerFor(JsonNode.class)
+            .with(CsvSchema.emptySchema().withHeader())
+            .with(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${catalog.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    /**
+     * Imports a JSON array of {@link ProductRequest} objects.
+     */
+    public ProductImportResponse importJson(InputStream in) throws IOException {
+        try (MappingIterator<JsonNode> rows = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            return importRows(rows);
+        }
+    }
+
+    /**
+     * Imports CSV with a header row naming the {@link ProductRequest} fields.
+     */
+    public ProductImportResponse importCsv(InputStream in) throws IOException {
+        try (MappingIterator<JsonNode> rows = CSV_READER.readValues(in)) {
+            return importRows(rows);
+        }
+    }
+
+    private ProductImportResponse importRows(Iterator<JsonNode> rows) {
+        Set<UUID> categoryIds = categoryRepository.findAllIds();
+        Tally tally = new Tally(maxReportedErrors);
+        List<JsonNode> chunk = new ArrayList<>(batchSize);
+
+        while (true) {
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                chunk.add(rows.next());
+            } catch (RuntimeException e) {
+                tally.reject(tally.total + chunk.size() + 1, "Malformed input, import stopped: " + e.getMessage());
+                break;
+            }
+            if (chunk.size() == batchSize) {
+                importChunk(chunk, categoryIds, tally);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, categoryIds, tally);
+        }
+
+        log.info("Product import finished: {} rows, {} imported, {} failed", tally.total, tally.imported, tally.failed);
+        return new ProductImportResponse(tally.total, tally.imported, tally.failed, tally.errors);
+    }
+
+    private void importChunk(List<JsonNode> chunk, Set<UUID> categoryIds, Tally tally) {
+        long firstRow = tally.total + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PreparedRow> prepared = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> prepare(chunk.get(i), firstRow + i, categoryIds, now))
+                .toList();
+        tally.total += chunk.size();
+
+        List<PreparedRow> valid = new ArrayList<>(prepared.size());
+        for (PreparedRow row : prepared) {
+            if (row.error() != null) {
+                tally.reject(row.row(), row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, valid, valid.size(), (ps, row) -> bind(ps, row.product()));
+                valid.forEach(row -> eventPublisher.publishEvent(new ProductChangedEvent(row.product())));
+            });
+            tally.imported += valid.size();
+        } catch (DataAccessException e) {
+            log.warn("Batch starting at row {} was rejected, retrying row by row: {}", firstRow, e.getMostSpecificCause().getMessage());
+            valid.forEach(row -> insertOne(row, tally));
+        }
+    }
+
+    private void insertOne(PreparedRow row, Tally tally) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row.product()));
+                eventPublisher.publishEvent(new ProductChangedEvent(row.product()));
+            });
+            tally.imported++;
+        } catch (DataAccessException e) {
+            tally.reject(row.row(), "Could not be stored: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private PreparedRow prepare(JsonNode node, long row, Set<UUID> categoryIds, LocalDateTime now) {
+        ProductRequest request;
+        try {
+            request = objectMapper.treeToValue(node, ProductRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return PreparedRow.rejected(row, "Unreadable row: " + e.getMessage());
+        }
+
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return PreparedRow.rejected(row, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (!categoryIds.contains(request.getCategoryId())) {
+            return PreparedRow.rejected(row, "Category with ID " + request.getCategoryId() + " not found");
+        }
+
+        UUID id = UUID.randomUUID();
+        ProductSnapshot product = new ProductSnapshot(id, request.getName(), request.getDescription(),
+                ProductService.slugFor(request.getName(), id), request.getImageUrl(), request.getPrice(),
+                request.getStock(), request.getCategoryId(), true, now, now);
+        return new PreparedRow(row, product, null);
+    }
+
+    private static void bind(PreparedStatement ps, ProductSnapshot product) throws SQLException {
+        ps.setObject(1, product.id());
+        ps.setString(2, product.name());
+        ps.setString(3, product.description());
+        ps.setBigDecimal(4, product.price());
+        ps.setInt(5, product.stock());
+        ps.setString(6, product.imageUrl());
+        ps.setObject(7, product.categoryId());
+        ps.setString(8, product.slug());
+        ps.setTimestamp(9, Timestamp.valueOf(product.createdAt()));
+        ps.setTimestamp(10, Timestamp.valueOf(product.updatedAt()));
+        ps.setTimestamp(11, Timestamp.valueOf(product.updatedAt()));
+        ps.setBoolean(12, product.active());
+    }
+
+    private record PreparedRow(long row, ProductSnapshot product, String error) {
+
+        static PreparedRow rejected(long row, String error) {
+            return new PreparedRow(row, null, error);
+        }
+    }
+
+    private static final class Tally {
+        private final int maxReportedErrors;
+        private final List<ProductImportResponse.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private Tally(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(long row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportResponse.RowError(row, message));
+            }
+        }
+    }
+}
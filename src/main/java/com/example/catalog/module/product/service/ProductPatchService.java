@@ -0,0 +1,150 @@
+package com.example.catalog.module.product.service;
+
+import com.example.catalog.module.product.dto.request.ProductPatchRequest;
+import com.example.catalog.module.product.dto.response.ProductPatchOutcome;
+import com.example.catalog.module.product.event.ProductChangedEvent;
+import com.example.catalog.module.product.repository.ProductRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Applies bulk price/stock changes as batched {@code UPDATE} statements without loading entities.
+ * Omitted fields keep their current value; {@code updated_at} is set by the server. Stock of a
+ * flash-sale product lives in its stock cells, so an entry setting it is rejected as a conflict.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductPatchService {
+
+    private static final String UPDATE_SQL = """
+            update products
+            set price = coalesce(?, price), stock = coalesce(?, stock), updated_at = ?, catalog_updated_at = ?
+            where id = ? and active = true and (flash_sale = false or ? is null)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.bulk-patch.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Returns one outcome per entry, in request order.
+     */
+    @Transactional
+    public List<ProductPatchOutcome> patch(List<ProductPatchRequest> patches) {
+        ProductPatchOutcome[] outcomes = new ProductPatchOutcome[patches.size()];
+        List<ProductPatchRequest> valid = new ArrayList<>(patches.size());
+        List<Integer> positions = new ArrayList<>(patches.size());
+
+        for (int i = 0; i < patches.size(); i++) {
+            ProductPatchRequest patch = patches.get(i);
+            String error = validate(patch);
+            if (error != null) {
+                outcomes[i] = new ProductPatchOutcome(patch != null ? patch.getId() : null, ProductPatchOutcome.Status.INVALID, error);
+            } else {
+                valid.add(patch);
+                positions.add(i);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, valid, batchSize, (ps, patch) -> bind(ps, patch, now));
+
+        Set<UUID> flashSale = new HashSet<>(productRepository.findFlashSaleIdsIn(missedStockPatches(valid, counts)));
+        Set<UUID> updated = new LinkedHashSet<>();
+        int k = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                UUID id = valid.get(k).getId();
+                if (count == 0 && flashSale.contains(id)) {
+                    outcomes[positions.get(k)] = new ProductPatchOutcome(id, ProductPatchOutcome.Status.CONFLICT,
+                            "Stock of flash-sale product " + id + " is managed by its stock cells");
+                } else if (count == 0) {
+                    outcomes[positions.get(k)] = new ProductPatchOutcome(id, ProductPatchOutcome.Status.NOT_FOUND,
+                            "Product with ID " + id + " not found");
+                } else {
+                    outcomes[positions.get(k)] = new ProductPatchOutcome(id, ProductPatchOutcome.Status.UPDATED, null);
+                    updated.add(id);
+                }
+                k++;
+            }
+        }
+
+        publishChanges(updated);
+        log.info("Bulk patch applied: {} entries, {} products updated", patches.size(), updated.size());
+        return Arrays.asList(outcomes);
+    }
+
+    private String validate(ProductPatchRequest patch) {
+        if (patch == null) {
+            return "Entry is empty";
+        }
+        Set<ConstraintViolation<ProductPatchRequest>> violations = validator.validate(patch);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (patch.getPrice() == null && patch.getStock() == null) {
+            return "Either price or stock is required";
+        }
+        return null;
+    }
+
+    /**
+     * Ids of the entries that set stock but matched no row: missing, or on flash sale.
+     */
+    private static List<UUID> missedStockPatches(List<ProductPatchRequest> valid, int[][] counts) {
+        List<UUID> missed = new ArrayList<>();
+        int k = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0 && valid.get(k).getStock() != null) {
+                    missed.add(valid.get(k).getId());
+                }
+                k++;
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * Re-reads the patched rows so the in-memory indexes and caches see the new values after commit.
+     */
+    private void publishChanges(Set<UUID> updated) {
+        List<UUID> ids = new ArrayList<>(updated);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            productRepository.findSnapshotsByIdIn(ids.subList(from, Math.min(from + batchSize, ids.size())))
+                    .forEach(snapshot -> eventPublisher.publishEvent(new ProductChangedEvent(snapshot)));
+        }
+    }
+
+    private static void bind(PreparedStatement ps, ProductPatchRequest patch, LocalDateTime now) throws SQLException {
+        ps.setObject(1, patch.getPrice(), Types.NUMERIC);
+        ps.setObject(2, patch.getStock(), Types.INTEGER);
+        ps.setTimestamp(3, Timestamp.valueOf(now));
+        ps.setTimestamp(4, Timestamp.valueOf(now));
+        ps.setObject(5, patch.getId());
+        ps.setObject(6, patch.getStock(), Types.INTEGER);
+    }
+}
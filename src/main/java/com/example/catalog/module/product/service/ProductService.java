@@ -1,31 +1,110 @@
 package com.example.catalog.module.product.service;
 
+import com.example.catalog.config.cache.CacheConfig;
+import com.example.catalog.config.cache.RefreshingCacheFactory;
+import com.example.catalog.exception.BadRequestException;
+import com.example.catalog.exception.ConflictException;
 import com.example.catalog.exception.ResourceNotFoundException;
+import com.example.catalog.module.product.cache.ProductCountCache;
+import com.example.catalog.module.product.cache.ProductSearchPageCache;
 import com.example.catalog.module.product.dto.request.ProductFilterRequest;
 import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.CursorSliceResponse;
+import com.example.catalog.module.product.dto.response.ProductChangeFeed;
+import com.example.catalog.module.product.dto.response.ProductFacets;
 import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.dto.response.ProductSuggestion;
 import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.event.ProductChangedEvent;
 import com.example.catalog.module.product.mapper.ProductMapper;
 import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.pagination.ProductChangeToken;
+import com.example.catalog.module.product.pagination.ProductCursor;
+import com.example.catalog.module.product.repository.ProductFacetRepository;
 import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.search.ProductColumnStore;
+import com.example.catalog.module.product.search.ProductFuzzyIndex;
+import com.example.catalog.module.product.search.ProductNameIndex;
+import com.example.catalog.module.product.search.ProductSuggestIndex;
+import com.example.catalog.module.product.search.ProductTextIndex;
+import com.example.catalog.module.product.spec.ProductQueryTemplate;
 import com.example.catalog.module.product.spec.ProductSpecification;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.UUID;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final Pattern NON_SLUG_CHARS = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern EDGE_DASHES = Pattern.compile("^-|-$");
+    private static final String RELEVANCE = "relevance";
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductNameIndex productNameIndex;
+    private final ProductFuzzyIndex productFuzzyIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductTextIndex productTextIndex;
+    private final ProductColumnStore productColumnStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final RefreshingCacheFactory refreshingCacheFactory;
+    private final ProductCountCache productCountCache;
+    private final ProductSearchPageCache productSearchPageCache;
+
+    @Value("${catalog.cache.public-search.max-size:1000}")
+    private long publicSearchesMaxSize;
+
+    @Value("${catalog.search.text.max-hits:1000}")
+    private int maxRankedHits;
+
+    @Value("${catalog.search.scroll.max-size:100}")
+    private int scrollMaxSize;
+
+    @Value("${catalog.changes.settle-time:5s}")
+    private Duration changesSettleTime;
+
+    @Value("${catalog.changes.max-size:1000}")
+    private int changesMaxSize;
+
+    private LoadingCache<PublicSearchKey, Page<ProductSummaryDto>> publicSearches;
 
     public Page<ProductResponse> getAllActiveProducts(Pageable pageable) {
         ProductFilterRequest emptyFilter = ProductFilterRequest.of(null, null, null, null, null);
@@ -35,8 +114,38 @@ public class ProductService {
     }
 
     public Page<ProductResponse> filterActiveProducts(ProductFilterRequest filters, Pageable pageable) {
-        Specification<Product> spec = ProductSpecification.filterBy(filters);
-        return productRepository.findAll(spec, pageable)
+        Matches matches = resolve(filters);
+        if (matches.none()) {
+            return Page.empty(pageable);
+        }
+
+        if (ProductQueryTemplate.supports(pageable.getSort())) {
+            ProductQueryTemplate template = ProductQueryTemplate.of(filters, matches.name(), matches.text());
+            return productRepository.findPage(template, pageable, () -> countMatching(filters, template))
+                    .map(productMapper::toResponse);
+        }
+
+        Specification<Product> spec = ProductSpecification.filterBy(filters, matches.name(), matches.text());
+        return productRepository.findPage(spec, pageable, () -> productCountCache.get(filters, () -> productRepository.count(spec)))
+                .map(productMapper::toResponse);
+    }
+
+    /**
+     * Count-free variant of {@link #filterActiveProducts}: only tells whether a next page exists.
+     */
+    public Slice<ProductResponse> filterActiveProductSlice(ProductFilterRequest filters, Pageable pageable) {
+        Matches matches = resolve(filters);
+        if (matches.none()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        if (ProductQueryTemplate.supports(pageable.getSort())) {
+            return productRepository.findSlice(ProductQueryTemplate.of(filters, matches.name(), matches.text()), pageable)
+                    .map(productMapper::toResponse);
+        }
+
+        Specification<Product> spec = ProductSpecification.filterBy(filters, matches.name(), matches.text());
+        return productRepository.findSlice(spec, pageable)
                 .map(productMapper::toResponse);
     }
 
@@ -44,18 +153,13 @@ public class ProductService {
     public ProductResponse save(ProductRequest dto) {
         UUID id = UUID.randomUUID();
 
-        String baseSlug = dto.getName()
-                .toLowerCase()
-                .replaceAll("[^a-z0-9]+", "-")
-                .replaceAll("^-|-$", "");
-        String fullSlug = baseSlug + "-" + id.toString().substring(0, 6);
-
         Product product = productMapper.toEntity(dto);
         product.setId(id);
-        product.setSlug(fullSlug);
+        product.setSlug(slugFor(dto.getName(), id));
         product.setActive(true);
 
-        Product saved = productRepository.save(product);
+        Product saved = productRepository.saveAndFlush(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved));
         log.info("Product created with ID: {}, slug: {}", saved.getId(), saved.getSlug());
 
         return productMapper.toResponse(saved);
@@ -70,38 +174,395 @@ public class ProductService {
     public void delete(UUID id) {
         Product product = findActiveOrThrow(id);
         product.setActive(false);
-        productRepository.save(product);
+        productRepository.saveAndFlush(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(product));
         log.info("Product soft-deleted with ID: {}", id);
     }
 
     @Transactional
     public ProductResponse update(UUID id, ProductRequest dto) {
         Product product = findActiveOrThrow(id);
+        if (product.isFlashSale() && !Objects.equals(product.getStock(), dto.getStock())) {
+            throw new ConflictException("Stock of flash-sale product " + id + " is managed by its stock cells");
+        }
+        UUID previousCategoryId = product.getCategory().getId();
         productMapper.updateEntity(product, dto);
-        Product updated = productRepository.save(product);
+        Product updated = productRepository.saveAndFlush(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(updated, previousCategoryId));
         log.info("Product updated with ID: {}", id);
         return productMapper.toResponse(updated);
     }
 
+    /**
+     * Served through a stale-while-revalidate cache when {@code catalog.cache.refresh.enabled};
+     * committed product writes reload the entries they can affect in the background. Searches
+     * that filter or sort on stock are always loaded: orders move stock far more often than
+     * anything else changes, and a stale page would keep showing sold-out products.
+     */
     public Page<ProductSummaryDto> findPublicProducts(ProductFilterRequest filters, Pageable pageable) {
-        Specification<Product> spec = ProductSpecification.filterBy(filters);
-        return productRepository.findAll(spec, pageable)
-                .map(product -> new ProductSummaryDto(
-                        product.getId(),
-                        product.getName(),
-                        product.getPrice(),
-                        product.getImageUrl(),
-                        product.getCategory().getName(),
-                        product.getSlug()
-                ));
+        PublicSearchKey key = PublicSearchKey.of(filters, pageable);
+        if (publicSearches == null || key.dependsOnStock()) {
+            return loadPublicProducts(filters, pageable);
+        }
+        return publicSearches.get(key);
     }
 
+    /**
+     * Reloads the cached searches that are unfiltered by category or filter on the product's
+     * old or new category; readers keep the previous page until the reload lands rather than
+     * block on it. The serialized page cache above may have been rebuilt from those previous
+     * pages in the meantime, so its entries are invalidated again once the reloads are done.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (publicSearches == null) {
+            return;
+        }
+        UUID categoryId = event.product().categoryId();
+        refreshingCacheFactory.refresh(publicSearches, key -> key.categoryId() == null
+                        || key.categoryId().equals(categoryId)
+                        || key.categoryId().equals(event.previousCategoryId()))
+                .whenComplete((done, failure) -> productSearchPageCache.onProductChanged(event));
+    }
+
+    @PostConstruct
+    void initPublicSearchCache() {
+        publicSearches = refreshingCacheFactory.build("publicProductSearches", publicSearchesMaxSize,
+                key -> loadPublicProducts(key.filters(), key.pageable()));
+    }
+
+    private Page<ProductSummaryDto> loadPublicProducts(ProductFilterRequest filters, Pageable pageable) {
+        if (pageable.getSort().getOrderFor(RELEVANCE) != null) {
+            return findByRelevance(filters, pageable);
+        }
+
+        Matches matches = resolve(filters);
+        if (matches.none()) {
+            return Page.empty(pageable);
+        }
+
+        Optional<ProductColumnStore.Result> columnar = productColumnStore.query(filters, matches.name(), matches.text(), pageable);
+        if (columnar.isPresent()) {
+            return toSummaryPage(columnar.get(), pageable);
+        }
+
+        if (ProductQueryTemplate.supports(pageable.getSort())) {
+            ProductQueryTemplate template = ProductQueryTemplate.of(filters, matches.name(), matches.text());
+            return productRepository.findSummaries(template, pageable, () -> countMatching(filters, template));
+        }
+
+        Specification<Product> spec = ProductSpecification.filterBy(filters, matches.name(), matches.text());
+        return productRepository.findSummaries(spec, pageable, () -> productCountCache.get(filters, () -> productRepository.count(spec)));
+    }
+
+    private long countMatching(ProductFilterRequest filters, ProductQueryTemplate template) {
+        return productCountCache.get(filters, () -> productRepository.countMatching(template));
+    }
+
+    /**
+     * Name completions for the search box, answered from memory without a query.
+     */
+    public List<ProductSuggestion> suggestPublicProducts(String prefix, int limit) {
+        return productSuggestIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Count-free variant of {@link #findPublicProducts}: only tells whether a next page exists.
+     */
+    public Slice<ProductSummaryDto> findPublicProductSlice(ProductFilterRequest filters, Pageable pageable) {
+        if (pageable.getSort().getOrderFor(RELEVANCE) != null) {
+            Page<ProductSummaryDto> page = findByRelevance(filters, pageable);
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+        }
+
+        Matches matches = resolve(filters);
+        if (matches.none()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Optional<ProductColumnStore.Result> columnar = productColumnStore.query(filters, matches.name(), matches.text(), pageable);
+        if (columnar.isPresent()) {
+            Page<ProductSummaryDto> page = toSummaryPage(columnar.get(), pageable);
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+        }
+
+        if (ProductQueryTemplate.supports(pageable.getSort())) {
+            return productRepository.findSummarySlice(ProductQueryTemplate.of(filters, matches.name(), matches.text()), pageable);
+        }
+
+        Specification<Product> spec = ProductSpecification.filterBy(filters, matches.name(), matches.text());
+        return productRepository.findSummarySlice(spec, pageable);
+    }
+
+    /**
+     * Computes category counts and a price histogram from a single grouped query. The query
+     * applies the name and stock filters and aggregates by category, price bucket and whether
+     * the price is in the requested range, so its result grows with the number of buckets,
+     * not with the catalog. The category and price filters are then applied per facet over
+     * those rows, so each facet ignores only its own dimension.
+     */
+    public ProductFacets findPublicFacets(ProductFilterRequest filters, BigDecimal priceBucketSize) {
+        if (priceBucketSize == null || priceBucketSize.signum() <= 0) {
+            throw new BadRequestException("priceBucketSize must be greater than zero");
+        }
+
+        Matches matches = resolve(filters);
+        if (matches.none()) {
+            return new ProductFacets(List.of(), List.of());
+        }
+
+        ProductFilterRequest shared = ProductFilterRequest.of(filters.getName(), null, null, filters.getMinStock(), null);
+        shared.setText(filters.getText());
+        BigDecimal minPrice = filters.getMinPrice() != null ? BigDecimal.valueOf(filters.getMinPrice()) : null;
+        BigDecimal maxPrice = filters.getMaxPrice() != null ? BigDecimal.valueOf(filters.getMaxPrice()) : null;
+        List<ProductFacetRepository.FacetRow> rows = productRepository.countByCategoryAndPriceBucket(
+                ProductSpecification.filterBy(shared, matches.name(), matches.text()), priceBucketSize, minPrice, maxPrice);
+
+        Map<UUID, ProductFacets.CategoryCount> categories = new LinkedHashMap<>();
+        TreeMap<BigDecimal, Long> buckets = new TreeMap<>();
+        for (ProductFacetRepository.FacetRow row : rows) {
+            if (row.inPriceRange()) {
+                categories.merge(row.categoryId(),
+                        new ProductFacets.CategoryCount(row.categoryId(), row.categoryName(), row.count()),
+                        (a, b) -> new ProductFacets.CategoryCount(a.getCategoryId(), a.getCategoryName(), a.getCount() + b.getCount()));
+            }
+
+            if (filters.getCategoryId() == null || filters.getCategoryId().equals(row.categoryId())) {
+                buckets.merge(BigDecimal.valueOf(row.bucket()).multiply(priceBucketSize), row.count(), Long::sum);
+            }
+        }
+
+        List<ProductFacets.CategoryCount> categoryCounts = categories.values().stream()
+                .sorted(Comparator.comparing(ProductFacets.CategoryCount::getCount).reversed()
+                        .thenComparing(ProductFacets.CategoryCount::getCategoryName))
+                .toList();
+        List<ProductFacets.PriceBucket> histogram = buckets.entrySet().stream()
+                .map(bucket -> new ProductFacets.PriceBucket(
+                        bucket.getKey().setScale(2, RoundingMode.HALF_UP),
+                        bucket.getKey().add(priceBucketSize).setScale(2, RoundingMode.HALF_UP),
+                        bucket.getValue()))
+                .toList();
+        return new ProductFacets(categoryCounts, histogram);
+    }
+
+    public CursorSliceResponse<ProductSummaryDto> scrollPublicProducts(ProductFilterRequest filters, String after, int size,
+                                                                       String sortField, Sort.Direction direction) {
+        if (size < 1 || size > scrollMaxSize) {
+            throw new BadRequestException("size must be between 1 and " + scrollMaxSize);
+        }
+
+        KeysetScrollPosition position = ProductCursor.decode(after, sortField, direction);
+
+        Matches matches = resolve(filters);
+        if (matches.none()) {
+            return new CursorSliceResponse<>(List.of(), size, false, null);
+        }
+
+        Specification<Product> spec = ProductSpecification.filterBy(filters, matches.name(), matches.text())
+                .and(ProductSpecification.fetchCategory());
+        Window<Product> window = productRepository.findBy(spec, query -> query
+                .sortBy(ProductCursor.sort(sortField, direction))
+                .limit(size)
+                .scroll(position));
+
+        String nextCursor = window.hasNext()
+                ? ProductCursor.encode(window.positionAt(window.size() - 1), sortField, direction)
+                : null;
+        return new CursorSliceResponse<>(window.map(productMapper::toSummary).getContent(), size, window.hasNext(), nextCursor);
+    }
+
+    /**
+     * Products created, updated or soft-deleted after {@code since}, oldest first, seeking on
+     * {@code (updatedAt, id)} so a sync reads only the changed rows. Changes younger than
+     * {@code settle-time} are held back to the next sync: updatedAt is stamped before commit,
+     * so a slow transaction could otherwise commit behind a token already handed out.
+     */
+    @Transactional(readOnly = true)
+    public ProductChangeFeed findChanges(String since, int size) {
+        ProductChangeToken after = ProductChangeToken.decode(since);
+        if (size < 1 || size > changesMaxSize) {
+            throw new BadRequestException("size must be between 1 and " + changesMaxSize);
+        }
+
+        LocalDateTime upTo = LocalDateTime.now().minus(changesSettleTime);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ProductSnapshot> rows = after == null
+                ? productRepository.findChanges(upTo, limit)
+                : productRepository.findChangesAfter(after.updatedAt(), after.id(), upTo, limit);
+
+        boolean hasMore = rows.size() > size;
+        List<ProductSnapshot> changes = hasMore ? rows.subList(0, size) : rows;
+        String nextToken = since;
+        if (!changes.isEmpty()) {
+            ProductSnapshot last = changes.get(changes.size() - 1);
+            nextToken = new ProductChangeToken(last.updatedAt(), last.id()).encode();
+        }
+        return new ProductChangeFeed(changes.stream().map(productMapper::toChange).toList(), hasMore, nextToken);
+    }
+
+    public Optional<LocalDateTime> findLastModified(UUID id) {
+        return productRepository.findUpdatedAtByIdAndActiveTrue(id);
+    }
+
+    public Optional<LocalDateTime> findPublicLastModifiedBySlug(String slug) {
+        return productRepository.findUpdatedAtBySlugAndActiveTrue(slug);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS_BY_SLUG, key = "#slug", sync = true)
     public ProductResponse findPublicBySlug(String slug) {
         Product product = productRepository.findBySlugAndActiveTrue(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
         return productMapper.toResponse(product);
     }
 
+    /**
+     * Writes every active product as one JSON document per line. Rows come from a forward-only
+     * cursor (fixed fetch size, DTO projection), so memory does not grow with the catalog.
+     * Lines are not flushed one by one; the generator flushes its buffer as it fills.
+     */
+    @Transactional(readOnly = true)
+    public long exportActiveProducts(OutputStream out) throws IOException {
+        long count = 0;
+        ObjectWriter writer = objectMapper.writerFor(ProductSnapshot.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots();
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            for (Iterator<ProductSnapshot> it = products.iterator(); it.hasNext(); count++) {
+                writer.writeValue(generator, it.next());
+                generator.writeRaw('\n');
+            }
+        }
+        log.info("Exported {} active products", count);
+        return count;
+    }
+
+    private Page<ProductSummaryDto> toSummaryPage(ProductColumnStore.Result result, Pageable pageable) {
+        if (result.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.total());
+        }
+
+        Map<UUID, ProductSummaryDto> byId = productRepository.findSummariesByIdIn(result.ids()).stream()
+                .collect(Collectors.toMap(ProductSummaryDto::getId, Function.identity()));
+        List<ProductSummaryDto> content = result.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    /**
+     * Ranks the full-text hits that pass the other filters by BM25 score, best first. The
+     * filters are applied in SQL to the hit ids (at most {@code catalog.search.text.max-hits});
+     * when the index cannot answer, SQL matches the query terms with LIKE instead and the index
+     * only scores the rows it returns. Ordering and paging happen in memory, so a fallback
+     * matching more than {@code max-hits} products is rejected rather than loaded whole.
+     */
+    private Page<ProductSummaryDto> findByRelevance(ProductFilterRequest filters, Pageable pageable) {
+        if (filters.getText() == null) {
+            throw new BadRequestException("sortField=relevance requires a full-text query (q)");
+        }
+
+        Optional<LinkedHashMap<UUID, Double>> hits = productTextIndex.search(filters.getText());
+        if (hits.isPresent() && hits.get().isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Optional<Set<UUID>> nameMatches = matchName(filters);
+        if (nameMatches.isPresent() && nameMatches.get().isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<UUID> matching = productRepository.findIdsMatching(ProductQueryTemplate.of(
+                filters, nameMatches.orElse(null), hits.map(LinkedHashMap::keySet).orElse(null)), maxRankedHits + 1);
+        if (matching.size() > maxRankedHits) {
+            throw new BadRequestException("q matches more than " + maxRankedHits
+                    + " products; narrow the search or sort by another field");
+        }
+        Map<UUID, Double> scores = hits.isPresent()
+                ? hits.get()
+                : productTextIndex.score(filters.getText(), matching);
+        List<UUID> ranked = matching.stream()
+                .sorted(Comparator.comparing((UUID id) -> scores.get(id)).reversed().thenComparing(Comparator.naturalOrder()))
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return toSummaryPage(new ProductColumnStore.Result(ranked.subList(from, to), ranked.size()), pageable);
+    }
+
+    /**
+     * Name and full-text candidates resolved by the in-memory indexes. A {@code null} side is
+     * left to its LIKE predicate; both sides are ANDed with the remaining filters.
+     */
+    private record Matches(Set<UUID> name, Set<UUID> text) {
+
+        boolean none() {
+            return (name != null && name.isEmpty()) || (text != null && text.isEmpty());
+        }
+    }
+
+    private Matches resolve(ProductFilterRequest filters) {
+        return new Matches(matchName(filters).orElse(null), matchText(filters).orElse(null));
+    }
+
+    /**
+     * Resolves a full-text query to the ids of its hits. Empty means the index cannot answer
+     * and the LIKE predicate over name and description applies.
+     */
+    private Optional<Set<UUID>> matchText(ProductFilterRequest filters) {
+        if (filters.getText() == null) {
+            return Optional.empty();
+        }
+        return productTextIndex.search(filters.getText()).map(LinkedHashMap::keySet);
+    }
+
+    /**
+     * Resolves the name filter to candidate ids through the trigram index. A fuzzy search adds
+     * the ids the fuzzy term index matches within its edit budget, so it never finds less than
+     * the plain substring search (a partly typed word only matches as a substring). Empty
+     * means the LIKE predicate applies; typo matches are then dropped.
+     */
+    private Optional<Set<UUID>> matchName(ProductFilterRequest filters) {
+        Optional<Set<UUID>> substringMatches = productNameIndex.match(filters.getName());
+        if (!filters.isFuzzy() || filters.getName() == null || substringMatches.isEmpty()) {
+            return substringMatches;
+        }
+
+        Optional<Set<UUID>> fuzzyMatches = productFuzzyIndex.match(filters.getName());
+        if (fuzzyMatches.isEmpty() || fuzzyMatches.get().isEmpty()) {
+            return substringMatches;
+        }
+        Set<UUID> union = new HashSet<>(substringMatches.get());
+        union.addAll(fuzzyMatches.get());
+        return Optional.of(union);
+    }
+
+    private record PublicSearchKey(String name, Double minPrice, Double maxPrice, Integer minStock, UUID categoryId,
+                                   boolean fuzzy, String text, Pageable pageable) {
+
+        static PublicSearchKey of(ProductFilterRequest filters, Pageable pageable) {
+            return new PublicSearchKey(filters.getName(), filters.getMinPrice(), filters.getMaxPrice(),
+                    filters.getMinStock(), filters.getCategoryId(), filters.isFuzzy(), filters.getText(), pageable);
+        }
+
+        ProductFilterRequest filters() {
+            ProductFilterRequest filters = ProductFilterRequest.of(name, minPrice, maxPrice, minStock, categoryId);
+            filters.setFuzzy(fuzzy);
+            filters.setText(text);
+            return filters;
+        }
+
+        boolean dependsOnStock() {
+            return minStock != null || pageable.getSort().getOrderFor("stock") != null
+                    || pageable.getSort().getOrderFor("updatedAt") != null;
+        }
+    }
+
+    static String slugFor(String name, UUID id) {
+        String baseSlug = EDGE_DASHES.matcher(NON_SLUG_CHARS.matcher(name.toLowerCase()).replaceAll("-")).replaceAll("");
+        return baseSlug + "-" + id.toString().substring(0, 6);
+    }
+
     private Product findActiveOrThrow(UUID id) {
         return productRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product with ID " + id + " not found"));
@@ -0,0 +1,140 @@
+package com.example.catalog.module.product.service;
+
+import com.example.catalog.exception.ConflictException;
+import com.example.catalog.module.product.event.ProductStockChangedEvent;
+import com.example.catalog.module.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Takes stock out of products for orders.
+ * <p>
+ * Each product is decremented by a conditional {@code UPDATE ... where stock >= ?}, so the
+ * check and the write are one atomic statement and concurrent orders only contend on the row
+ * locks of the products they share. The statements go out as one JDBC batch in ascending id
+ * order, so two orders sharing products always lock them in the same sequence and cannot
+ * deadlock. The statement skips flash-sale products, so a product it matched no row for is
+ * either short of stock or, when its row says so, on flash sale: those are taken from their
+ * stock cells afterwards, also in id order, without touching the product row (see
+ * {@link ProductFlashSaleService}). The row decides the path, so it is never stale.
+ * <p>
+ * Stock moves are published as {@link ProductStockChangedEvent}, so an order does not
+ * invalidate the search indexes and caches that do not depend on stock. For the same reason
+ * they stamp {@code updated_at} but not {@code catalog_updated_at}, which versions the listings
+ * (see {@link CatalogVersionService}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockService {
+
+    private static final String DECREMENT_SQL = """
+            update products
+            set stock = stock - ?, updated_at = ?
+            where id = ? and active = true and flash_sale = false and stock >= ?
+            """;
+
+    private static final String INCREMENT_SQL = """
+            update products
+            set stock = stock + ?, updated_at = ?
+            where id = ? and flash_sale = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final ProductFlashSaleService productFlashSaleService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Decrements the stock of every product by its quantity, or throws {@link ConflictException}
+     * naming the first product without enough stock. Joins the caller's transaction: the row
+     * locks are held until it commits, and a failure rolls back the decrements already applied.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Map<UUID, Integer> quantities) {
+        List<Map.Entry<UUID, Integer>> missed = decrement(new ArrayList<>(new TreeMap<>(quantities).entrySet()));
+        if (missed.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> flashSale = new HashSet<>(productRepository.findFlashSaleIdsIn(missed.stream().map(Map.Entry::getKey).toList()));
+        for (Map.Entry<UUID, Integer> entry : missed) {
+            if (!flashSale.contains(entry.getKey()) || !productFlashSaleService.take(entry.getKey(), entry.getValue())) {
+                throw new ConflictException("Insufficient stock for product: " + entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Gives quantities taken by {@link #reserve} back, as one batch in ascending id order.
+     * Flash-sale products get theirs back in one of their stock cells.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restore(Map<UUID, Integer> quantities) {
+        List<Map.Entry<UUID, Integer>> ordered = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT_SQL, ordered, ordered.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setObject(3, entry.getKey());
+        });
+
+        List<UUID> restored = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            Map.Entry<UUID, Integer> entry = ordered.get(i);
+            if (counts[0][i] > 0) {
+                restored.add(entry.getKey());
+            } else if (!productFlashSaleService.give(entry.getKey(), entry.getValue())) {
+                log.warn("Could not return {} units to missing product {}", entry.getValue(), entry.getKey());
+            }
+        }
+
+        if (!restored.isEmpty()) {
+            productRepository.findSnapshotsByIdIn(restored)
+                    .forEach(snapshot -> eventPublisher.publishEvent(new ProductStockChangedEvent(snapshot)));
+        }
+    }
+
+    /**
+     * Runs the decrements as one batch and returns the entries it matched no row for.
+     */
+    private List<Map.Entry<UUID, Integer>> decrement(List<Map.Entry<UUID, Integer>> ordered) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(DECREMENT_SQL, ordered, ordered.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setObject(3, entry.getKey());
+            ps.setInt(4, entry.getValue());
+        });
+        List<UUID> decremented = new ArrayList<>(ordered.size());
+        List<Map.Entry<UUID, Integer>> missed = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (counts[0][i] > 0) {
+                decremented.add(ordered.get(i).getKey());
+            } else {
+                missed.add(ordered.get(i));
+            }
+        }
+
+        if (!decremented.isEmpty()) {
+            productRepository.findSnapshotsByIdIn(decremented)
+                    .forEach(snapshot -> eventPublisher.publishEvent(new ProductStockChangedEvent(snapshot)));
+        }
+        return missed;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.catalog.module.product.spec;
+
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.search.ProductTextIndex;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Fixed, parameterized JPQL for the product filters. Each combination of present filters is a
+ * bit in {@link #mask()}, and the query text for a mask (plus sort variant and number of
+ * full-text terms) is built once and reused. Identical JPQL strings hit Hibernate's query plan cache, and the identical SQL they
+ * render hits the JDBC statement cache, so no Criteria tree or SQL is generated per request.
+ * <p>
+ * Only single-field sorts on {@link #SORTABLE} fields have templates; other sorts go through
+ * {@link ProductSpecification}.
+ */
+public final class ProductQueryTemplate {
+
+    public static final Set<String> SORTABLE = Set.of("name", "price", "stock", "createdAt", "updatedAt");
+
+    static final int NAME_LIKE = 1;
+    static final int NAME_IDS = 1 << 1;
+    static final int MIN_PRICE = 1 << 2;
+    static final int MAX_PRICE = 1 << 3;
+    static final int MIN_STOCK = 1 << 4;
+    static final int CATEGORY = 1 << 5;
+    static final int TEXT_LIKE = 1 << 6;
+    static final int TEXT_IDS = 1 << 7;
+
+    private static final String SUMMARY_SELECT = """
+            select new com.example.catalog.module.product.dto.response.ProductSummaryDto(
+                p.id, p.name, p.price, p.imageUrl, c.name, p.slug)
+            from Product p join p.category c""";
+    private static final String ENTITY_SELECT = "select p from Product p join fetch p.category";
+    private static final String COUNT_SELECT = "select count(p) from Product p";
+    private static final String ID_SELECT = "select p.id from Product p";
+
+    private static final ConcurrentMap<String, String> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final int mask;
+    private final ProductFilterRequest filter;
+    private final Collection<UUID> nameMatches;
+    private final Collection<UUID> textMatches;
+    private final List<String> textTerms;
+
+    private ProductQueryTemplate(int mask, ProductFilterRequest filter, Collection<UUID> nameMatches,
+                                 Collection<UUID> textMatches, List<String> textTerms) {
+        this.mask = mask;
+        this.filter = filter;
+        this.nameMatches = nameMatches;
+        this.textMatches = textMatches;
+        this.textTerms = textTerms;
+    }
+
+    public static ProductQueryTemplate of(ProductFilterRequest filter, Collection<UUID> nameMatches) {
+        return of(filter, nameMatches, null);
+    }
+
+    /**
+     * @param nameMatches ids already resolved for the name filter by the in-memory indexes;
+     *                    when {@code null} the name filter is applied with LIKE.
+     * @param textMatches ids already resolved for the full-text filter by the text index;
+     *                    when {@code null} each query term is matched with LIKE against the
+     *                    name and description, and a product needs any one of them.
+     */
+    public static ProductQueryTemplate of(ProductFilterRequest filter, Collection<UUID> nameMatches,
+                                          Collection<UUID> textMatches) {
+        int mask = 0;
+        List<String> textTerms = List.of();
+        if (textMatches != null) {
+            mask |= TEXT_IDS;
+        } else if (filter.getText() != null && !filter.getText().isBlank()) {
+            mask |= TEXT_LIKE;
+            textTerms = ProductTextIndex.queryTerms(filter.getText());
+        }
+        if (nameMatches != null) {
+            mask |= NAME_IDS;
+        } else if (filter.getName() != null && !filter.getName().isBlank()) {
+            mask |= NAME_LIKE;
+        }
+        if (filter.getMinPrice() != null) {
+            mask |= MIN_PRICE;
+        }
+        if (filter.getMaxPrice() != null) {
+            mask |= MAX_PRICE;
+        }
+        if (filter.getMinStock() != null) {
+            mask |= MIN_STOCK;
+        }
+        if (filter.getCategoryId() != null) {
+            mask |= CATEGORY;
+        }
+        return new ProductQueryTemplate(mask, filter, nameMatches, textMatches, textTerms);
+    }
+
+    public static boolean supports(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        return sort.stream().count() == 1 && SORTABLE.contains(sort.iterator().next().getProperty());
+    }
+
+    public int mask() {
+        return mask;
+    }
+
+    public String summaryQuery(Sort sort) {
+        return TEMPLATES.computeIfAbsent("summary:" + shape() + ":" + sort,
+                key -> SUMMARY_SELECT + where() + orderBy(sort));
+    }
+
+    public String entityQuery(Sort sort) {
+        return TEMPLATES.computeIfAbsent("entity:" + shape() + ":" + sort,
+                key -> ENTITY_SELECT + where() + orderBy(sort));
+    }
+
+    public String countQuery() {
+        return TEMPLATES.computeIfAbsent("count:" + shape(), key -> COUNT_SELECT + where());
+    }
+
+    public String idQuery() {
+        return TEMPLATES.computeIfAbsent("id:" + shape(), key -> ID_SELECT + where());
+    }
+
+    public void bind(Query query) {
+        if ((mask & NAME_IDS) != 0) {
+            query.setParameter("nameIds", nameMatches);
+        }
+        if ((mask & TEXT_IDS) != 0) {
+            query.setParameter("textIds", textMatches);
+        }
+        if ((mask & NAME_LIKE) != 0) {
+            query.setParameter("name", "%" + filter.getName().toLowerCase() + "%");
+        }
+        for (int i = 0; i < textTerms.size(); i++) {
+            query.setParameter("text" + i, "%" + textTerms.get(i) + "%");
+        }
+        if ((mask & MIN_PRICE) != 0) {
+            query.setParameter("minPrice", BigDecimal.valueOf(filter.getMinPrice()));
+        }
+        if ((mask & MAX_PRICE) != 0) {
+            query.setParameter("maxPrice", BigDecimal.valueOf(filter.getMaxPrice()));
+        }
+        if ((mask & MIN_STOCK) != 0) {
+            query.setParameter("minStock", filter.getMinStock());
+        }
+        if ((mask & CATEGORY) != 0) {
+            query.setParameter("categoryId", filter.getCategoryId());
+        }
+    }
+
+    private String shape() {
+        return mask + ":" + textTerms.size();
+    }
+
+    private String where() {
+        StringBuilder where = new StringBuilder(" where p.active = true");
+        if ((mask & NAME_IDS) != 0) {
+            where.append(" and p.id in :nameIds");
+        }
+        if ((mask & TEXT_IDS) != 0) {
+            where.append(" and p.id in :textIds");
+        }
+        if ((mask & NAME_LIKE) != 0) {
+            where.append(" and lower(p.name) like :name");
+        }
+        if ((mask & TEXT_LIKE) != 0) {
+            where.append(textTerms.isEmpty() ? " and 1 = 0" : " and (");
+            for (int i = 0; i < textTerms.size(); i++) {
+                where.append(i == 0 ? "" : " or ")
+                        .append("lower(p.name) like :text").append(i)
+                        .append(" or lower(p.description) like :text").append(i);
+            }
+            where.append(textTerms.isEmpty() ? "" : ")");
+        }
+        if ((mask & MIN_PRICE) != 0) {
+            where.append(" and p.price >= :minPrice");
+        }
+        if ((mask & MAX_PRICE) != 0) {
+            where.append(" and p.price <= :maxPrice");
+        }
+        if ((mask & MIN_STOCK) != 0) {
+            where.append(" and p.stock >= :minStock");
+        }
+        if ((mask & CATEGORY) != 0) {
+            where.append(" and p.category.id = :categoryId");
+        }
+        return where.toString();
+    }
+
+    /**
+     * The id tiebreaker makes the order total, so pages never overlap or skip rows.
+     */
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        Sort.Order order = sort.iterator().next();
+        String direction = order.isAscending() ? "asc" : "desc";
+        return " order by p." + order.getProperty() + " " + direction + ", p.id " + direction;
+    }
+}
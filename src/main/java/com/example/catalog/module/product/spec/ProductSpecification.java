@@ -2,6 +2,7 @@ package com.example.catalog.module.product.spec;
 
 import com.example.catalog.module.product.dto.request.ProductFilterRequest;
 import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.search.ProductTextIndex;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
@@ -11,17 +12,48 @@ import org.springframework.data.jpa.domain.Specification;
 
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 public class ProductSpecification {
     public static Specification<Product> filterBy(ProductFilterRequest filter) {
+        return filterBy(filter, null, null);
+    }
+
+    public static Specification<Product> filterBy(ProductFilterRequest filter, Collection<UUID> nameMatches) {
+        return filterBy(filter, nameMatches, null);
+    }
+
+    /**
+     * @param nameMatches ids already resolved for the name filter by the in-memory indexes;
+     *                    when {@code null} the name filter is applied with LIKE.
+     * @param textMatches ids already resolved for the full-text filter by the text index;
+     *                    when {@code null} each query term is matched with LIKE against the
+     *                    name and description, and a product needs any one of them.
+     */
+    public static Specification<Product> filterBy(ProductFilterRequest filter, Collection<UUID> nameMatches,
+                                                  Collection<UUID> textMatches) {
         return (Root<Product> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             predicates.add(cb.isTrue(root.get("active")));
 
-            if (filter.getName() != null && !filter.getName().isBlank()) {
+            if (textMatches != null) {
+                predicates.add(root.get("id").in(textMatches));
+            } else if (filter.getText() != null && !filter.getText().isBlank()) {
+                List<Predicate> terms = new ArrayList<>();
+                for (String term : ProductTextIndex.queryTerms(filter.getText())) {
+                    terms.add(cb.like(cb.lower(root.get("name")), "%" + term + "%"));
+                    terms.add(cb.like(cb.lower(root.get("description")), "%" + term + "%"));
+                }
+                predicates.add(cb.or(terms.toArray(new Predicate[0])));
+            }
+
+            if (nameMatches != null) {
+                predicates.add(root.get("id").in(nameMatches));
+            } else if (filter.getName() != null && !filter.getName().isBlank()) {
                 predicates.add(cb.like(
                         cb.lower(root.get("name")),
                         "%" + filter.getName().toLowerCase() + "%"
@@ -47,4 +79,17 @@ public class ProductSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Fetch-joins the category so mapping a page to summaries does not trigger one
+     * lazy load per row. Only meant for entity queries; count queries must not fetch.
+     */
+    public static Specification<Product> fetchCategory() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("category");
+            }
+            return null;
+        };
+    }
+}
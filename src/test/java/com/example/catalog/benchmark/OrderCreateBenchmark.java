@@ -0,0 +1,117 @@
+package com.example.catalog.benchmark;
+
+import com.example.catalog.ProductCatalogApplication;
+import com.example.catalog.module.auth.model.Role;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.repository.UserRepository;
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.service.OrderService;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Orders created per second by {@link OrderService#createOrder} for orders of 1, 10 and 100
+ * line items, against the in-memory H2 test database. Not a test: run {@link #main} on the
+ * test classpath. Stock is large enough that no order runs out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderCreateBenchmark {
+
+    private static final String EMAIL = "benchmark@example.com";
+
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderRequestDTO order;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SpringApplication application = new SpringApplication(ProductCatalogApplication.class);
+        application.setAdditionalProfiles("test");
+        context = application.run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.catalog=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--spring.jpa.show-sql=false");
+        orderService = context.getBean(OrderService.class);
+
+        context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark")
+                .email(EMAIL)
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .build());
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+
+        UUID categoryId = context.getBean(CategoryRepository.class).save(Category.builder()
+                .name("Benchmark")
+                .slug("benchmark")
+                .iconUrl("https://example.com/icons/benchmark.png")
+                .active(true)
+                .build()).getId();
+        ProductService productService = context.getBean(ProductService.class);
+        List<OrderItemRequestDTO> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            UUID productId = productService.save(new ProductRequest("Product " + i, "Benchmark product",
+                    new BigDecimal("10.00"), Integer.MAX_VALUE, "https://example.com/images/product.jpg", categoryId)).getId();
+            items.add(new OrderItemRequestDTO(productId, 1));
+        }
+        order = new OrderRequestDTO(items);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponseDTO createOrder() {
+        return orderService.createOrder(order);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderCreateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.catalog.benchmark;
+
+import com.example.catalog.ProductCatalogApplication;
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.example.catalog.module.product.spec.ProductQueryTemplate;
+import com.example.catalog.module.product.spec.ProductSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Criteria-built {@link ProductSpecification} path with the precompiled
+ * {@link ProductQueryTemplate} path for one page of public search summaries, against the
+ * in-memory H2 test database. Not a test: run {@link #main} on the test classpath. Caches
+ * are bypassed, so every invocation hits the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductQueryBenchmark {
+
+    private static final int PRODUCTS = 2_000;
+
+    @Param({"category", "price-range", "all"})
+    private String filter;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private ProductFilterRequest filters;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SpringApplication application = new SpringApplication(ProductCatalogApplication.class);
+        application.setAdditionalProfiles("test");
+        context = application.run(
+                "--server.port=0",
+                "--catalog.cache.refresh.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.catalog=WARN",
+                "--logging.level.org.springframework.web=WARN");
+        productRepository = context.getBean(ProductRepository.class);
+
+        UUID categoryId = context.getBean(CategoryRepository.class).save(Category.builder()
+                .name("Benchmark")
+                .slug("benchmark")
+                .iconUrl("https://example.com/icons/benchmark.png")
+                .active(true)
+                .build()).getId();
+        ProductService productService = context.getBean(ProductService.class);
+        for (int i = 0; i < PRODUCTS; i++) {
+            productService.save(new ProductRequest("Product " + i, "Benchmark product",
+                    BigDecimal.valueOf(1 + i % 500), i % 50, "https://example.com/images/product.jpg", categoryId));
+        }
+
+        filters = switch (filter) {
+            case "category" -> ProductFilterRequest.of(null, null, null, null, categoryId);
+            case "price-range" -> ProductFilterRequest.of(null, 100.0, 300.0, null, null);
+            default -> ProductFilterRequest.of("product 1", 50.0, 400.0, 10, categoryId);
+        };
+        pageable = PageRequest.of(2, 20, Sort.by("price"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProductSummaryDto> specification() {
+        Specification<Product> spec = ProductSpecification.filterBy(filters);
+        return productRepository.findSummaries(spec, pageable, () -> productRepository.count(spec));
+    }
+
+    @Benchmark
+    public Page<ProductSummaryDto> template() {
+        ProductQueryTemplate template = ProductQueryTemplate.of(filters, null);
+        return productRepository.findSummaries(template, pageable, () -> productRepository.countMatching(template));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProductQueryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.catalog.modules.order;
+
+import com.example.catalog.module.order.hold.HierarchicalTimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void shouldExpireEachTimeoutAtItsTickAcrossLevels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 0);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = 10 + random.nextLong(100_000_000L);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        long now = 0;
+        int expired = 0;
+        while (expired < deadlines.size()) {
+            now += 1 + random.nextInt(500_000);
+            for (long deadline : wheel.advanceTo(now)) {
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                assertThat(deadline).isGreaterThan(now - 500_010);
+                expired++;
+            }
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldNotFireBeforeDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 1_000);
+        wheel.schedule("hold", 1_250);
+
+        assertThat(wheel.advanceTo(1_200)).isEmpty();
+        assertThat(wheel.advanceTo(1_299)).isEmpty();
+        assertThat(wheel.advanceTo(1_300)).containsExactly("hold");
+    }
+
+    @Test
+    void shouldCancelPendingTimeout() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 0);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 50_000);
+        wheel.schedule("kept", 50_000);
+
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        assertThat(wheel.advanceTo(60_000)).containsExactly("kept");
+        assertThat(wheel.size()).isZero();
+    }
+}
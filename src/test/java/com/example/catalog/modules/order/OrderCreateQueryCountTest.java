@@ -0,0 +1,137 @@
+package com.example.catalog.modules.order;
+
+import com.example.catalog.exception.NotFoundException;
+import com.example.catalog.module.auth.model.Role;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.repository.UserRepository;
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.repository.OrderRepository;
+import com.example.catalog.module.order.service.OrderService;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderCreateQueryCountTest {
+
+    private static final String EMAIL = "orders@example.com";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<UUID> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+
+        userRepository.save(User.builder()
+                .name("Orders")
+                .email(EMAIL)
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+
+        UUID categoryId = categoryRepository.save(Category.builder()
+                .name("Peripherals")
+                .slug("peripherals")
+                .iconUrl("https://example.com/icons/peripherals.png")
+                .active(true)
+                .build()).getId();
+        productIds.clear();
+        for (int i = 0; i < 20; i++) {
+            productIds.add(productService.save(new ProductRequest("Product " + i, "Test product", new BigDecimal("10.00"), 100,
+                    "https://example.com/images/product.jpg", categoryId)).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+        orderRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldLoadAllProductsOfAnOrderInOneQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        orderService.createOrder(order(1));
+
+        statistics.clear();
+        OrderResponseDTO small = orderService.createOrder(order(1));
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        OrderResponseDTO large = orderService.createOrder(order(20));
+
+        assertThat(small.getItems()).hasSize(1);
+        assertThat(large.getItems()).hasSize(20);
+        // user, products and the re-read of the decremented rows
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(21);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(smallStatements + 1);
+    }
+
+    @Test
+    void shouldRejectOrderWithInactiveProduct() {
+        productService.delete(productIds.get(3));
+
+        assertThatThrownBy(() -> orderService.createOrder(order(5)))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining(productIds.get(3).toString());
+    }
+
+    private OrderRequestDTO order(int lines) {
+        List<OrderItemRequestDTO> items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            items.add(new OrderItemRequestDTO(productIds.get(i), 1));
+        }
+        return new OrderRequestDTO(items);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.catalog.modules.order;
+
+import com.example.catalog.exception.ConflictException;
+import com.example.catalog.module.auth.model.Role;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.repository.UserRepository;
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.repository.OrderRepository;
+import com.example.catalog.module.order.service.OrderService;
+import com.example.catalog.module.product.dto.request.ProductPatchRequest;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductPatchOutcome;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductFlashSaleService;
+import com.example.catalog.module.product.service.ProductPatchService;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flashsaletest;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "catalog.flash-sale.rebalance-interval=1h"
+})
+class OrderFlashSaleStockTest {
+
+    private static final String EMAIL = "flash@example.com";
+    private static final int STOCK = 100;
+    private static final int CELLS = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductFlashSaleService productFlashSaleService;
+
+    @Autowired
+    private ProductPatchService productPatchService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID product;
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        orderRepository.deleteAll();
+        jdbcTemplate.update("delete from product_stock_cells");
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+
+        userRepository.save(User.builder()
+                .name("Flash")
+                .email(EMAIL)
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .build());
+
+        categoryId = categoryRepository.save(Category.builder()
+                .name("Launch")
+                .slug("launch")
+                .iconUrl("https://example.com/icons/launch.png")
+                .active(true)
+                .build()).getId();
+        product = productService.save(new ProductRequest("Launch Console", "Test product", new BigDecimal("499.00"), STOCK,
+                "https://example.com/images/console.jpg", categoryId)).getId();
+        productFlashSaleService.enable(product, CELLS);
+    }
+
+    @AfterEach
+    void cleanup() {
+        orderRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldSellExactlyTheStockAcrossCells() throws InterruptedException {
+        AtomicInteger sold = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < 400; i++) {
+            executor.execute(() -> {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+                try {
+                    start.await();
+                    orderService.createOrder(new OrderRequestDTO(List.of(new OrderItemRequestDTO(product, 1))));
+                    sold.incrementAndGet();
+                } catch (ConflictException e) {
+                    // sold out
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(failures).isEmpty();
+        assertThat(sold.get()).isEqualTo(STOCK);
+        assertThat(cells()).allSatisfy(stock -> assertThat(stock).isZero());
+
+        productFlashSaleService.rebalance();
+        assertThat(productStock()).isZero();
+    }
+
+    @Test
+    void shouldRebalanceCellsAndReportTheirSum() {
+        // drain one cell, as if every order had landed on it
+        int firstCell = cells().get(0);
+        jdbcTemplate.update("update product_stock_cells set stock = 0 where product_id = ? and cell = 0", product);
+        assertThat(productStock()).isEqualTo(STOCK);
+
+        productFlashSaleService.rebalance();
+
+        int left = STOCK - firstCell;
+        assertThat(productStock()).isEqualTo(left);
+        assertThat(cells()).allSatisfy(stock -> assertThat(stock).isBetween(left / CELLS, left / CELLS + 1));
+        assertThat(cells().stream().mapToInt(Integer::intValue).sum()).isEqualTo(left);
+    }
+
+    @Test
+    void shouldFoldCellsBackWhenDisabled() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+        orderService.createOrder(new OrderRequestDTO(List.of(new OrderItemRequestDTO(product, 3))));
+        SecurityContextHolder.clearContext();
+
+        productFlashSaleService.disable(product);
+
+        assertThat(productFlashSaleService.isFlashSale(product)).isFalse();
+        assertThat(cells()).isEmpty();
+        assertThat(productStock()).isEqualTo(STOCK - 3);
+    }
+
+    @Test
+    void shouldTakeFromSeveralCellsWhenNoSingleCellIsEnough() {
+        jdbcTemplate.update("update product_stock_cells set stock = 1 where product_id = ?", product);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+        try {
+            orderService.createOrder(new OrderRequestDTO(List.of(new OrderItemRequestDTO(product, 2))));
+            assertThat(cells().stream().mapToInt(Integer::intValue).sum()).isEqualTo(CELLS - 2);
+
+            assertThatThrownBy(() -> orderService.createOrder(new OrderRequestDTO(List.of(new OrderItemRequestDTO(product, CELLS - 1)))))
+                    .isInstanceOf(ConflictException.class);
+            orderService.createOrder(new OrderRequestDTO(List.of(new OrderItemRequestDTO(product, CELLS - 2))));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        assertThat(cells()).allSatisfy(stock -> assertThat(stock).isZero());
+    }
+
+    @Test
+    void shouldRejectStockEditsWhileOnFlashSale() {
+        List<ProductPatchOutcome> outcomes = productPatchService.patch(List.of(
+                new ProductPatchRequest(product, null, 5),
+                new ProductPatchRequest(product, new BigDecimal("449.00"), null)));
+
+        assertThat(outcomes).extracting(ProductPatchOutcome::getStatus)
+                .containsExactly(ProductPatchOutcome.Status.CONFLICT, ProductPatchOutcome.Status.UPDATED);
+        assertThatThrownBy(() -> productService.update(product, new ProductRequest("Launch Console", "Test product",
+                new BigDecimal("449.00"), 5, "https://example.com/images/console.jpg", categoryId)))
+                .isInstanceOf(ConflictException.class);
+        assertThat(productStock()).isEqualTo(STOCK);
+        assertThat(productFlashSaleService.isFlashSale(product)).isTrue();
+    }
+
+    private List<Integer> cells() {
+        return jdbcTemplate.queryForList("select stock from product_stock_cells where product_id = ? order by cell",
+                Integer.class, product);
+    }
+
+    private int productStock() {
+        return jdbcTemplate.queryForObject("select stock from products where id = ?", Integer.class, product);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.catalog.modules.order;
+
+import com.example.catalog.exception.BadRequestException;
+import com.example.catalog.module.auth.model.Role;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.repository.UserRepository;
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.repository.OrderRepository;
+import com.example.catalog.module.order.service.OrderService;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.CursorSliceResponse;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderHistoryQueryCountTest {
+
+    private static final String EMAIL = "history@example.com";
+    private static final int ORDERS = 25;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<UUID> placed = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+
+        userRepository.save(User.builder()
+                .name("History")
+                .email(EMAIL)
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+
+        UUID categoryId = categoryRepository.save(Category.builder()
+                .name("Books")
+                .slug("books")
+                .iconUrl("https://example.com/icons/books.png")
+                .active(true)
+                .build()).getId();
+        List<UUID> productIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            productIds.add(productService.save(new ProductRequest("Book " + i, "Test product", new BigDecimal("25.00"), 1000,
+                    "https://example.com/images/book.jpg", categoryId)).getId());
+        }
+
+        placed.clear();
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderItemRequestDTO> items = new ArrayList<>();
+            for (int line = 0; line <= i % productIds.size(); line++) {
+                items.add(new OrderItemRequestDTO(productIds.get(line), 1));
+            }
+            placed.add(orderService.createOrder(new OrderRequestDTO(items)).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+        orderRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldPageThroughHistoryNewestFirstInConstantQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<OrderResponseDTO> seen = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+
+        do {
+            statistics.clear();
+            CursorSliceResponse<OrderResponseDTO> page = orderService.getOrdersForCurrentUser(after, 10);
+
+            // user, the page's keys and one fetch join for its orders, items and products
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(page.getContent()).allSatisfy(order -> assertThat(order.getItems())
+                    .isNotEmpty()
+                    .allSatisfy(item -> assertThat(item.getProductName()).startsWith("Book ")));
+
+            seen.addAll(page.getContent());
+            after = page.getNextCursor();
+            pages++;
+        } while (after != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).extracting(OrderResponseDTO::getId).containsExactlyInAnyOrderElementsOf(placed);
+        assertThat(seen).extracting(OrderResponseDTO::getCreatedAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(seen).extracting(order -> order.getItems().size()).containsOnly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> orderService.getOrdersForCurrentUser("not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.catalog.modules.order;
+
+import com.example.catalog.exception.ConflictException;
+import com.example.catalog.module.auth.model.Role;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.repository.UserRepository;
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.repository.OrderRepository;
+import com.example.catalog.module.order.service.OrderService;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktest;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=16"
+})
+class OrderStockConcurrencyTest {
+
+    private static final String EMAIL = "stock@example.com";
+    private static final int HOT_STOCK = 100;
+    private static final int OTHER_STOCK = 1_000;
+    private static final int ORDERS = 600;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID hot;
+    private UUID other;
+
+    @BeforeEach
+    void setup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+
+        userRepository.save(User.builder()
+                .name("Stock")
+                .email(EMAIL)
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .build());
+
+        UUID categoryId = categoryRepository.save(Category.builder()
+                .name("Launch")
+                .slug("launch")
+                .iconUrl("https://example.com/icons/launch.png")
+                .active(true)
+                .build()).getId();
+        hot = productService.save(new ProductRequest("Launch Console", "Test product", new BigDecimal("499.00"), HOT_STOCK,
+                "https://example.com/images/console.jpg", categoryId)).getId();
+        other = productService.save(new ProductRequest("Controller", "Test product", new BigDecimal("59.00"), OTHER_STOCK,
+                "https://example.com/images/controller.jpg", categoryId)).getId();
+    }
+
+    @AfterEach
+    void cleanup() {
+        orderRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldNotOversellOrDeadlockUnderConcurrentOrders() throws InterruptedException {
+        AtomicInteger hotSold = new AtomicInteger();
+        AtomicInteger otherSold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < ORDERS; i++) {
+            // every third order takes both products, listed in alternating order
+            List<OrderItemRequestDTO> items = new ArrayList<>();
+            if (i % 3 == 0) {
+                items.add(new OrderItemRequestDTO(i % 2 == 0 ? hot : other, 1));
+                items.add(new OrderItemRequestDTO(i % 2 == 0 ? other : hot, 1));
+            } else {
+                items.add(new OrderItemRequestDTO(hot, 1));
+            }
+            boolean multi = items.size() > 1;
+
+            executor.execute(() -> {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+                try {
+                    start.await();
+                    orderService.createOrder(new OrderRequestDTO(items));
+                    hotSold.incrementAndGet();
+                    if (multi) {
+                        otherSold.incrementAndGet();
+                    }
+                } catch (ConflictException e) {
+                    rejected.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(failures).isEmpty();
+        assertThat(hotSold.get()).isEqualTo(HOT_STOCK);
+        assertThat(rejected.get()).isEqualTo(ORDERS - HOT_STOCK);
+        assertThat(stockOf(hot)).isZero();
+        assertThat(stockOf(other)).isEqualTo(OTHER_STOCK - otherSold.get());
+        assertThat(orderRepository.count()).isEqualTo(HOT_STOCK);
+    }
+
+    @Test
+    void shouldReturnStockWhenCancelledOnce() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+        try {
+            UUID order = orderService.createOrder(new OrderRequestDTO(List.of(
+                    new OrderItemRequestDTO(hot, 3),
+                    new OrderItemRequestDTO(other, 2),
+                    new OrderItemRequestDTO(hot, 1)))).getId();
+            assertThat(stockOf(hot)).isEqualTo(HOT_STOCK - 4);
+
+            orderService.cancelOrder(order);
+
+            assertThat(stockOf(hot)).isEqualTo(HOT_STOCK);
+            assertThat(stockOf(other)).isEqualTo(OTHER_STOCK);
+            assertThatThrownBy(() -> orderService.cancelOrder(order)).isInstanceOf(ConflictException.class);
+            assertThat(stockOf(hot)).isEqualTo(HOT_STOCK);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private int stockOf(UUID id) {
+        return transactionTemplate.execute(status -> productRepository.findById(id).orElseThrow().getStock());
+    }
+}
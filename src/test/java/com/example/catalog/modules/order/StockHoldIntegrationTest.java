@@ -0,0 +1,184 @@
+package com.example.catalog.modules.order;
+
+import com.example.catalog.exception.ConflictException;
+import com.example.catalog.module.auth.model.Role;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.repository.UserRepository;
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.response.StockHoldResponseDTO;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.model.StockHold;
+import com.example.catalog.module.order.repository.OrderRepository;
+import com.example.catalog.module.order.repository.StockHoldRepository;
+import com.example.catalog.module.order.service.StockHoldService;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stockholdtest",
+        "catalog.holds.ttl=1s",
+        "catalog.holds.tick=50ms"
+})
+class StockHoldIntegrationTest {
+
+    private static final String EMAIL = "holder@example.com";
+    private static final int STOCK = 10;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID product;
+
+    @BeforeEach
+    void setup() {
+        stockHoldRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+
+        userRepository.save(User.builder()
+                .name("Holder")
+                .email(EMAIL)
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .build());
+
+        UUID categoryId = categoryRepository.save(Category.builder()
+                .name("Audio")
+                .slug("audio")
+                .iconUrl("https://example.com/icons/audio.png")
+                .active(true)
+                .build()).getId();
+        product = productService.save(new ProductRequest("Headphones", "Test product", new BigDecimal("199.90"), STOCK,
+                "https://example.com/images/headphones.jpg", categoryId)).getId();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+        stockHoldRepository.deleteAll();
+        orderRepository.deleteAll();
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldTakeStockWhenHoldingAndKeepItWhenConfirmed() {
+        StockHoldResponseDTO hold = hold(4);
+        assertThat(hold.getStatus()).isEqualTo(StockHold.Status.HELD);
+        assertThat(productStock()).isEqualTo(STOCK - 4);
+
+        OrderResponseDTO order = stockHoldService.confirm(hold.getId());
+
+        assertThat(order.getItems()).singleElement().satisfies(item -> {
+            assertThat(item.getQuantity()).isEqualTo(4);
+            assertThat(item.getUnitPrice()).isEqualByComparingTo("199.90");
+        });
+        assertThat(productStock()).isEqualTo(STOCK - 4);
+        assertThat(status(hold.getId())).isEqualTo(StockHold.Status.CONFIRMED);
+        assertThatThrownBy(() -> stockHoldService.release(hold.getId())).isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void shouldReturnStockWhenReleased() {
+        StockHoldResponseDTO hold = hold(3);
+
+        stockHoldService.release(hold.getId());
+
+        assertThat(productStock()).isEqualTo(STOCK);
+        assertThat(status(hold.getId())).isEqualTo(StockHold.Status.RELEASED);
+        assertThatThrownBy(() -> stockHoldService.confirm(hold.getId())).isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void shouldExpireHoldsPastTheirTtl() throws InterruptedException {
+        StockHoldResponseDTO expiring = hold(2);
+        StockHoldResponseDTO confirmed = hold(1);
+        stockHoldService.confirm(confirmed.getId());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (status(expiring.getId()) == StockHold.Status.HELD && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            stockHoldService.expireDue();
+        }
+
+        assertThat(status(expiring.getId())).isEqualTo(StockHold.Status.EXPIRED);
+        assertThat(status(confirmed.getId())).isEqualTo(StockHold.Status.CONFIRMED);
+        assertThat(productStock()).isEqualTo(STOCK - 1);
+        assertThatThrownBy(() -> stockHoldService.confirm(expiring.getId())).isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void shouldSweepOverdueHoldsNoWheelKnowsAbout() {
+        StockHoldResponseDTO orphaned = hold(3);
+        StockHoldResponseDTO current = hold(1);
+        // As if placed by an instance that went away before its wheel expired it.
+        jdbcTemplate.update("update stock_holds set expires_at = ? where id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)), orphaned.getId());
+
+        assertThat(stockHoldService.sweepOverdue()).isEqualTo(1);
+
+        assertThat(status(orphaned.getId())).isEqualTo(StockHold.Status.EXPIRED);
+        assertThat(status(current.getId())).isEqualTo(StockHold.Status.HELD);
+        assertThat(productStock()).isEqualTo(STOCK - 1);
+        assertThat(stockHoldService.sweepOverdue()).isZero();
+    }
+
+    private StockHoldResponseDTO hold(int quantity) {
+        return stockHoldService.hold(new OrderRequestDTO(List.of(new OrderItemRequestDTO(product, quantity))));
+    }
+
+    private StockHold.Status status(UUID hold) {
+        return StockHold.Status.valueOf(jdbcTemplate.queryForObject("select status from stock_holds where id = ?", String.class, hold));
+    }
+
+    private int productStock() {
+        return jdbcTemplate.queryForObject("select stock from products where id = ?", Integer.class, product);
+    }
+}
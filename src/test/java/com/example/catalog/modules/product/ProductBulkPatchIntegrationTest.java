@@ -0,0 +1,103 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductPatchRequest;
+import com.example.catalog.module.product.dto.response.ProductPatchOutcome;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductPatchService;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "catalog.bulk-patch.batch-size=2")
+class ProductBulkPatchIntegrationTest {
+
+    @Autowired
+    private ProductPatchService productPatchService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+    }
+
+    @Test
+    void shouldApplyPatchesAndReportOutcomePerEntry() {
+        UUID mouse = productService.save(request("Mouse", categoryId)).getId();
+        UUID keyboard = productService.save(request("Keyboard", categoryId)).getId();
+        UUID deleted = productService.save(request("Discontinued", categoryId)).getId();
+        productService.delete(deleted);
+        Product before = productRepository.findById(keyboard).orElseThrow();
+
+        List<ProductPatchOutcome> outcomes = productPatchService.patch(List.of(
+                new ProductPatchRequest(mouse, new BigDecimal("19.99"), null),
+                new ProductPatchRequest(keyboard, null, 3),
+                new ProductPatchRequest(UUID.randomUUID(), BigDecimal.ONE, null),
+                new ProductPatchRequest(deleted, BigDecimal.ONE, null),
+                new ProductPatchRequest(mouse, null, -5),
+                new ProductPatchRequest(keyboard, null, null)
+        ));
+
+        assertThat(outcomes).extracting(ProductPatchOutcome::getStatus).containsExactly(
+                ProductPatchOutcome.Status.UPDATED,
+                ProductPatchOutcome.Status.UPDATED,
+                ProductPatchOutcome.Status.NOT_FOUND,
+                ProductPatchOutcome.Status.NOT_FOUND,
+                ProductPatchOutcome.Status.INVALID,
+                ProductPatchOutcome.Status.INVALID);
+
+        Product patchedMouse = productRepository.findById(mouse).orElseThrow();
+        assertThat(patchedMouse.getPrice()).isEqualByComparingTo("19.99");
+        assertThat(patchedMouse.getStock()).isEqualTo(10);
+
+        Product patchedKeyboard = productRepository.findById(keyboard).orElseThrow();
+        assertThat(patchedKeyboard.getPrice()).isEqualByComparingTo("29.99");
+        assertThat(patchedKeyboard.getStock()).isEqualTo(3);
+        assertThat(patchedKeyboard.getUpdatedAt()).isAfterOrEqualTo(before.getUpdatedAt());
+
+        assertThat(productRepository.findById(deleted).orElseThrow().getPrice()).isEqualByComparingTo("29.99");
+    }
+
+    @Test
+    void shouldEvictCachedDetailAfterPatch() {
+        UUID id = productService.save(request("Mouse", categoryId)).getId();
+        String slug = productRepository.findById(id).orElseThrow().getSlug();
+        assertThat(findBySlug(slug).getPrice()).isEqualByComparingTo("29.99");
+
+        productPatchService.patch(List.of(new ProductPatchRequest(id, new BigDecimal("9.99"), null)));
+
+        assertThat(findBySlug(slug).getPrice()).isEqualByComparingTo("9.99");
+    }
+
+    private ProductResponse findBySlug(String slug) {
+        return transactionTemplate.execute(status -> productService.findPublicBySlug(slug));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.exception.BadRequestException;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductChange;
+import com.example.catalog.module.product.dto.response.ProductChangeFeed;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "catalog.changes.settle-time=0s")
+class ProductChangeFeedIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+    }
+
+    @Test
+    void shouldPageThroughEveryProductOnFullSync() {
+        List<UUID> created = new ArrayList<>();
+        for (String name : List.of("Wireless Mouse", "Mechanical Keyboard", "USB Hub", "Webcam", "Headset")) {
+            created.add(productService.save(request(name, categoryId)).getId());
+        }
+
+        List<UUID> synced = new ArrayList<>();
+        String token = null;
+        ProductChangeFeed feed;
+        do {
+            feed = productService.findChanges(token, 2);
+            feed.getChanges().forEach(change -> synced.add(change.getId()));
+            token = feed.getNextToken();
+        } while (feed.isHasMore());
+
+        assertThat(synced).containsExactlyElementsOf(created);
+        assertThat(productService.findChanges(token, 2).getChanges()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnOnlyUpdatesAndSoftDeletesAfterToken() {
+        ProductResponse unchanged = productService.save(request("Wireless Mouse", categoryId));
+        ProductResponse updated = productService.save(request("Mechanical Keyboard", categoryId));
+        ProductResponse deleted = productService.save(request("USB Hub", categoryId));
+        String token = productService.findChanges(null, 10).getNextToken();
+
+        productService.update(updated.getId(), new ProductRequest("Mechanical Keyboard", "Test product",
+                new BigDecimal("79.99"), 3, "https://example.com/images/product.jpg", categoryId));
+        productService.delete(deleted.getId());
+
+        ProductChangeFeed feed = productService.findChanges(token, 10);
+
+        assertThat(feed.isHasMore()).isFalse();
+        assertThat(feed.getChanges()).extracting(ProductChange::getId)
+                .containsExactly(updated.getId(), deleted.getId())
+                .doesNotContain(unchanged.getId());
+        assertThat(feed.getChanges().get(0).getPrice()).isEqualByComparingTo("79.99");
+        assertThat(feed.getChanges().get(0).isActive()).isTrue();
+        assertThat(feed.getChanges().get(1).isActive()).isFalse();
+    }
+
+    @Test
+    void shouldKeepTokenWhenNothingChanged() {
+        productService.save(request("Wireless Mouse", categoryId));
+        String token = productService.findChanges(null, 10).getNextToken();
+
+        ProductChangeFeed feed = productService.findChanges(token, 10);
+
+        assertThat(feed.getChanges()).isEmpty();
+        assertThat(feed.getNextToken()).isEqualTo(token);
+    }
+
+    @Test
+    void shouldRejectInvalidToken() {
+        assertThatThrownBy(() -> productService.findChanges("not-a-token", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.search.ProductColumnStore;
+import com.example.catalog.module.product.service.ProductService;
+import com.example.catalog.module.product.spec.ProductSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.createCategory;
+import static com.example.catalog.modules.product.ProductTestFactory.deleteCatalog;
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "catalog.search.columnar.enabled=true")
+class ProductColumnStoreIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductColumnStore productColumnStore;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private UUID mice;
+    private UUID keyboards;
+
+    @BeforeEach
+    void setup() {
+        deleteCatalog(productRepository, categoryRepository);
+        mice = createCategory(categoryRepository, "Mice");
+        keyboards = createCategory(categoryRepository, "Keyboards");
+        productColumnStore.rebuild();
+
+        for (int i = 0; i < 10; i++) {
+            productService.save(request("Mouse " + i, new BigDecimal(10 + i * 5 + ".50"), i, mice));
+            productService.save(request("Keyboard " + i, new BigDecimal(40 + i + ".00"), 10 - i, keyboards));
+        }
+    }
+
+    @Test
+    void shouldMatchSqlResultsForEveryFilter() {
+        List<ProductFilterRequest> filters = List.of(
+                ProductFilterRequest.of(null, null, null, null, null),
+                ProductFilterRequest.of("mouse", null, null, null, null),
+                ProductFilterRequest.of(null, 20.5, 45.0, null, null),
+                ProductFilterRequest.of(null, null, null, 4, keyboards),
+                ProductFilterRequest.of("oard", 41.0, null, 3, keyboards),
+                ProductFilterRequest.of(null, null, null, null, UUID.randomUUID())
+        );
+        List<Pageable> pages = List.of(
+                PageRequest.of(0, 5, Sort.by("price")),
+                PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "name")),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "stock"))
+        );
+
+        for (ProductFilterRequest filter : filters) {
+            for (Pageable pageable : pages) {
+                Page<ProductSummaryDto> columnar = productService.findPublicProducts(filter, pageable);
+                Page<ProductSummaryDto> sql = productRepository.findSummaries(ProductSpecification.filterBy(filter),
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                                pageable.getSort().and(Sort.by(pageable.getSort().iterator().next().getDirection(), "id"))));
+
+                assertThat(columnar.getTotalElements()).isEqualTo(sql.getTotalElements());
+                assertThat(columnar.getContent()).extracting(ProductSummaryDto::getId)
+                        .containsExactlyElementsOf(sql.getContent().stream().map(ProductSummaryDto::getId).toList());
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyWritesIncrementally() {
+        Pageable byPrice = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "price"));
+        UUID cheapest = productService.findPublicProducts(ProductFilterRequest.of(null, null, null, null, mice),
+                PageRequest.of(0, 1, Sort.by("price"))).getContent().get(0).getId();
+
+        productService.update(cheapest, request("Mouse Deluxe", new BigDecimal("999.99"), 1, mice));
+        Page<ProductSummaryDto> page = productService.findPublicProducts(ProductFilterRequest.of(null, null, null, null, null), byPrice);
+        assertThat(page.getContent().get(0).getName()).isEqualTo("Mouse Deluxe");
+
+        productService.delete(cheapest);
+        page = productService.findPublicProducts(ProductFilterRequest.of(null, null, null, null, null), byPrice);
+        assertThat(page.getTotalElements()).isEqualTo(19);
+        assertThat(page.getContent()).extracting(ProductSummaryDto::getId).doesNotContain(cheapest);
+
+        UUID reborn = productService.save(request("Mouse Reborn", new BigDecimal("0.50"), 7, mice)).getId();
+        Page<ProductSummaryDto> mouseByPrice = productService.findPublicProducts(ProductFilterRequest.of(null, null, null, null, mice),
+                PageRequest.of(0, 20, Sort.by("price")));
+        assertThat(mouseByPrice.getTotalElements()).isEqualTo(10);
+        assertThat(mouseByPrice.getContent().get(0).getId()).isEqualTo(reborn);
+        assertThat(mouseByPrice.getContent()).extracting(ProductSummaryDto::getId).doesNotContain(cheapest);
+    }
+
+    @Test
+    void shouldSortNamesByCollation() {
+        productService.save(request("mouse wheel", new BigDecimal("5.00"), 1, mice));
+        productService.save(request("Mouse Zapper", new BigDecimal("6.00"), 1, mice));
+
+        Page<ProductSummaryDto> page = productService.findPublicProducts(ProductFilterRequest.of("mouse", null, null, null, null),
+                PageRequest.of(0, 20, Sort.by("name")));
+        assertThat(page.getContent()).extracting(ProductSummaryDto::getName).endsWith("mouse wheel", "Mouse Zapper");
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.example.catalog.module.product.service.ProductStockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "catalog.version.settle-time=500ms")
+class ProductConditionalGetIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForUnchangedProductDetail() {
+        UUID id = productService.save(request("Wireless Mouse", categoryId)).getId();
+        String url = "http://localhost:" + port + "/api/public/products/slug/" + productRepository.findById(id).orElseThrow().getSlug();
+
+        ResponseEntity<String> first = get(url, new HttpHeaders());
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull().doesNotStartWith("W/");
+        assertThat(first.getHeaders().getLastModified()).isPositive();
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+        ResponseEntity<String> cached = get(url, conditional);
+        assertThat(cached.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(cached.getBody()).isNull();
+
+        HttpHeaders byDate = new HttpHeaders();
+        byDate.setIfModifiedSince(first.getHeaders().getLastModified());
+        assertThat(get(url, byDate).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        productService.update(id, request("Wireless Mouse Pro", categoryId));
+
+        ResponseEntity<String> changed = get(url, conditional);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void shouldVersionListingsByCatalogWrites() throws InterruptedException {
+        productService.save(request("Wireless Mouse", categoryId));
+        String url = "http://localhost:" + port + "/api/public/products?name=mouse";
+        assertThat(get(url, new HttpHeaders()).getHeaders().getETag()).isNull();
+
+        Thread.sleep(600);
+        String etag = get(url, new HttpHeaders()).getHeaders().getETag();
+        assertThat(etag).isNotNull();
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+        assertThat(get(url, conditional).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        productService.save(request("Gaming Keyboard", categoryId));
+
+        ResponseEntity<String> changed = get(url, conditional);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    void shouldKeepListingVersionAcrossStockMoves() throws InterruptedException {
+        UUID id = productService.save(request("Wireless Mouse", categoryId)).getId();
+        String url = "http://localhost:" + port + "/api/public/products?name=mouse";
+        String stockUrl = url + "&minStock=5";
+
+        Thread.sleep(600);
+        String etag = get(url, new HttpHeaders()).getHeaders().getETag();
+        String stockEtag = get(stockUrl, new HttpHeaders()).getHeaders().getETag();
+        assertThat(etag).isNotNull();
+        assertThat(stockEtag).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status -> productStockService.reserve(Map.of(id, 8)));
+        Thread.sleep(600);
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+        assertThat(get(url, conditional).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        HttpHeaders stockConditional = new HttpHeaders();
+        stockConditional.setIfNoneMatch(stockEtag);
+        ResponseEntity<String> changed = get(stockUrl, stockConditional);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(stockEtag);
+    }
+
+    private ResponseEntity<String> get(String url, HttpHeaders headers) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
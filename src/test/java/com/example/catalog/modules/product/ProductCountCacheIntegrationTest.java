@@ -0,0 +1,144 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.example.catalog.module.product.service.ProductStockService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "catalog.cache.refresh.enabled=false"
+})
+class ProductCountCacheIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+        for (int i = 0; i < 12; i++) {
+            productService.save(request("Product " + i, categoryId));
+        }
+    }
+
+    @Test
+    void shouldReuseCountUntilCatalogChanges() {
+        ProductFilterRequest filters = ProductFilterRequest.of(null, null, null, null, categoryId);
+        Statistics statistics = statistics();
+
+        assertThat(page(filters, 0).getTotalElements()).isEqualTo(12);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        assertThat(page(filters, 1).getTotalElements()).isEqualTo(12);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        productService.save(request("Product 12", categoryId));
+        statistics.clear();
+        assertThat(page(filters, 1).getTotalElements()).isEqualTo(13);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOnlyRecountMinStockFiltersWhenStockChanges() {
+        ProductFilterRequest all = ProductFilterRequest.of(null, null, null, null, categoryId);
+        ProductFilterRequest inStock = ProductFilterRequest.of(null, null, null, 10, categoryId);
+        UUID sold = page(all, 0).getContent().get(0).getId();
+        assertThat(page(inStock, 0).getTotalElements()).isEqualTo(12);
+
+        transactionTemplate.executeWithoutResult(status -> productStockService.reserve(Map.of(sold, 1)));
+
+        Statistics statistics = statistics();
+        assertThat(page(all, 1).getTotalElements()).isEqualTo(12);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(page(inStock, 1).getTotalElements()).isEqualTo(11);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnSliceWithoutCounting() throws Exception {
+        ProductFilterRequest filters = ProductFilterRequest.of(null, null, null, null, categoryId);
+        Statistics statistics = statistics();
+
+        Slice<ProductSummaryDto> first = productService.findPublicProductSlice(filters, PageRequest.of(0, 5, Sort.by("name")));
+        Slice<ProductSummaryDto> last = productService.findPublicProductSlice(filters, PageRequest.of(2, 5, Sort.by("name")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(first.getContent()).hasSize(5);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(2);
+        assertThat(last.hasNext()).isFalse();
+
+        JsonNode body = objectMapper.readTree(restTemplate.getForObject(
+                "http://localhost:" + port + "/api/public/products?slice=true&size=5&categoryId=" + categoryId, String.class));
+        assertThat(body.has("totalElements")).isFalse();
+        assertThat(body.get("last").asBoolean()).isFalse();
+        assertThat(body.get("content")).hasSize(5);
+    }
+
+    private Page<ProductSummaryDto> page(ProductFilterRequest filters, int page) {
+        return productService.findPublicProducts(filters, PageRequest.of(page, 5, Sort.by("name")));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
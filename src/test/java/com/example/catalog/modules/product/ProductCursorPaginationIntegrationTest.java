@@ -0,0 +1,109 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductCursorPaginationIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        Category category = categoryRepository.save(Category.builder()
+                .name("Peripherals")
+                .slug("peripherals")
+                .iconUrl("https://example.com/icons/peripherals.png")
+                .active(true)
+                .build());
+
+        for (int i = 1; i <= 5; i++) {
+            productService.save(new ProductRequest("Product " + i, "Test product", new BigDecimal("10.00"), i,
+                    "https://example.com/images/product.jpg", category.getId()));
+        }
+    }
+
+    @Test
+    void shouldWalkAllPagesWithCursor() throws Exception {
+        List<String> names = new ArrayList<>();
+        String after = "";
+        boolean hasNext = true;
+
+        while (hasNext) {
+            String url = "http://localhost:" + port + "/api/public/products/scroll?size=2&sortField=price&direction=desc&after=" + after;
+            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            JsonNode body = objectMapper.readTree(response.getBody());
+            body.get("content").forEach(item -> names.add(item.get("name").asText()));
+            assertThat(body.has("totalElements")).isFalse();
+
+            hasNext = body.get("hasNext").asBoolean();
+            after = hasNext ? body.get("nextCursor").asText() : null;
+        }
+
+        assertThat(names).hasSize(5).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldRejectCursorFromAnotherSort() throws Exception {
+        String url = "http://localhost:" + port + "/api/public/products/scroll?size=2&sortField=name";
+        JsonNode body = objectMapper.readTree(restTemplate.getForEntity(url, String.class).getBody());
+        String cursor = body.get("nextCursor").asText();
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/public/products/scroll?size=2&sortField=price&after=" + cursor, String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldRejectSizeOutsideLimits() {
+        for (String size : List.of("0", "-1", "101")) {
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    "http://localhost:" + port + "/api/public/products/scroll?size=" + size, String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductExportIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+    }
+
+    @Test
+    void shouldWriteOneLinePerActiveProduct() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            productService.save(request("Product " + i, categoryId));
+        }
+        UUID deleted = productService.save(request("Discontinued", categoryId)).getId();
+        productService.delete(deleted);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = productService.exportActiveProducts(out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+
+        assertThat(exported).isEqualTo(25);
+        assertThat(lines).hasSize(25);
+        assertThat(lines).allSatisfy(node -> {
+            assertThat(node.get("active").asBoolean()).isTrue();
+            assertThat(node.get("categoryId").asText()).isEqualTo(categoryId.toString());
+            assertThat(node.get("imageUrl").asText()).isEqualTo("https://example.com/images/product.jpg");
+        });
+        assertThat(lines).extracting(node -> node.get("id").asText()).doesNotContain(deleted.toString());
+    }
+
+    @Test
+    void shouldWriteNothingForAnEmptyCatalog() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(productService.exportActiveProducts(out)).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectAnonymousExport() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/products/export", String.class);
+
+        assertThat(response.getStatusCode().is4xxClientError()).isTrue();
+    }
+}
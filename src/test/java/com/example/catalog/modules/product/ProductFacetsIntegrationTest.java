@@ -0,0 +1,133 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.repository.ProductFacetRepository;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.example.catalog.module.product.spec.ProductSpecification;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductFacetsIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID mice;
+
+    @BeforeEach
+    void setup() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        mice = category("Mice");
+        UUID keyboards = category("Keyboards");
+
+        save("Mouse Basic", "15.00", 10, mice);
+        save("Mouse Pro", "65.00", 10, mice);
+        save("Mouse Travel", "30.00", 0, mice);
+        save("Keyboard Basic", "25.00", 10, keyboards);
+        save("Keyboard Pro", "120.00", 10, keyboards);
+    }
+
+    @Test
+    void shouldReturnFacetsThatIgnoreOnlyTheirOwnFilter() throws Exception {
+        String url = "http://localhost:" + port + "/api/public/products?facets=true&priceBucketSize=50"
+                + "&minStock=1&maxPrice=100&categoryId=" + mice;
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertThat(body.get("totalElements").asLong()).isEqualTo(2);
+
+        Map<String, Long> categories = new HashMap<>();
+        body.get("facets").get("categories").forEach(c -> categories.put(c.get("categoryName").asText(), c.get("count").asLong()));
+        assertThat(categories).containsExactlyInAnyOrderEntriesOf(Map.of("Mice", 2L, "Keyboards", 1L));
+
+        Map<Double, Long> histogram = new HashMap<>();
+        body.get("facets").get("priceHistogram").forEach(b -> histogram.put(b.get("from").asDouble(), b.get("count").asLong()));
+        assertThat(histogram).containsExactlyInAnyOrderEntriesOf(Map.of(0.0, 1L, 50.0, 1L));
+    }
+
+    @Test
+    void shouldAggregateOneRowPerCategoryAndBucket() {
+        for (int i = 1; i <= 20; i++) {
+            save("Mouse " + i, i + ".00", 10, mice);
+        }
+
+        List<ProductFacetRepository.FacetRow> rows = productRepository.countByCategoryAndPriceBucket(
+                ProductSpecification.filterBy(ProductFilterRequest.of(null, null, null, null, null), null),
+                new BigDecimal("50"), null, new BigDecimal("100"));
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows).filteredOn(row -> row.categoryId().equals(mice) && row.bucket() == 0)
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.count()).isEqualTo(22);
+                    assertThat(row.inPriceRange()).isTrue();
+                });
+        assertThat(rows).filteredOn(row -> row.bucket() == 2)
+                .singleElement()
+                .satisfies(row -> assertThat(row.inPriceRange()).isFalse());
+    }
+
+    @Test
+    void shouldOmitFacetsByDefault() throws Exception {
+        ResponseEntity<String> response = restTemplate.getForEntity("http://localhost:" + port + "/api/public/products", String.class);
+
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertThat(body.has("facets")).isFalse();
+        assertThat(body.get("totalElements").asLong()).isEqualTo(5);
+    }
+
+    private UUID category(String name) {
+        return categoryRepository.save(Category.builder()
+                .name(name)
+                .slug(name.toLowerCase())
+                .iconUrl("https://example.com/icons/" + name.toLowerCase() + ".png")
+                .active(true)
+                .build()).getId();
+    }
+
+    private void save(String name, String price, int stock, UUID categoryId) {
+        productService.save(new ProductRequest(name, "Test product", new BigDecimal(price), stock,
+                "https://example.com/images/product.jpg", categoryId));
+    }
+}
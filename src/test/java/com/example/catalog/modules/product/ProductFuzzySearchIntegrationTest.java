@@ -0,0 +1,113 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.search.ProductFuzzyIndex;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "catalog.cache.refresh.enabled=false",
+        "catalog.search.name-index.max-candidates=2"
+})
+class ProductFuzzySearchIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductFuzzyIndex productFuzzyIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+        productFuzzyIndex.rebuild();
+    }
+
+    @Test
+    void shouldMatchMisspelledWordsWithinEditBudget() {
+        productService.save(request("Wireless Mouse", "Test product", "19.99", categoryId));
+        productService.save(request("Mechanical Keyboard", "Test product", "89.99", categoryId));
+        productService.save(request("Mouse Pad", "Test product", "9.99", categoryId));
+
+        assertThat(names(search("mose", false))).isEmpty();
+        assertThat(names(search("mose", true))).containsExactly("Mouse Pad", "Wireless Mouse");
+        assertThat(names(search("mechanicl keybaord", true))).containsExactly("Mechanical Keyboard");
+        assertThat(names(search("mosue", true))).isEmpty();
+        assertThat(names(search("pda", true))).isEmpty();
+
+        ProductFilterRequest priced = ProductFilterRequest.of("wirless", 10.0, null, null, null);
+        priced.setFuzzy(true);
+        assertThat(names(productService.findPublicProducts(priced, PageRequest.of(0, 10, Sort.by("name")))))
+                .containsExactly("Wireless Mouse");
+    }
+
+    @Test
+    void shouldKeepSubstringMatchesWhenFuzzy() {
+        productService.save(request("Laptop Stand", "Test product", "39.99", categoryId));
+        productService.save(request("Wireless Mouse", "Test product", "19.99", categoryId));
+
+        assertThat(names(search("lap", false))).containsExactly("Laptop Stand");
+        assertThat(names(search("lap", true))).containsExactly("Laptop Stand");
+        assertThat(names(search("mous", true))).containsExactly("Wireless Mouse");
+    }
+
+    @Test
+    void shouldLeaveQueriesOverMaxCandidatesToSql() {
+        productService.save(request("Wireless Mouse", "Test product", "19.99", categoryId));
+        productService.save(request("Gaming Mouse", "Test product", "49.99", categoryId));
+        productService.save(request("Mouse Pad", "Test product", "9.99", categoryId));
+
+        assertThat(productFuzzyIndex.match("mouse")).isEmpty();
+        assertThat(productFuzzyIndex.match("gamng mouse")).hasValueSatisfying(ids -> assertThat(ids).hasSize(1));
+        assertThat(names(search("mouse", true))).containsExactly("Gaming Mouse", "Mouse Pad", "Wireless Mouse");
+    }
+
+    @Test
+    void shouldReflectRenamesAndSoftDeletes() {
+        ProductResponse product = productService.save(request("Wireless Mouse", "Test product", "19.99", categoryId));
+
+        productService.update(product.getId(), request("Gaming Headset", "Test product", "49.99", categoryId));
+        assertThat(names(search("wireles", true))).isEmpty();
+        assertThat(names(search("headest", true))).containsExactly("Gaming Headset");
+
+        productService.delete(product.getId());
+        assertThat(names(search("headset", true))).isEmpty();
+    }
+
+    private Page<ProductSummaryDto> search(String name, boolean fuzzy) {
+        ProductFilterRequest filters = ProductFilterRequest.of(name, null, null, null, null);
+        filters.setFuzzy(fuzzy);
+        return productService.findPublicProducts(filters, PageRequest.of(0, 10, Sort.by("name")));
+    }
+
+    private static List<String> names(Page<ProductSummaryDto> page) {
+        return page.map(ProductSummaryDto::getName).getContent();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.response.ProductImportResponse;
+import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductImportService;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "catalog.import.batch-size=4")
+class ProductImportIntegrationTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        categoryId = categoryRepository.save(Category.builder()
+                .name("Peripherals")
+                .slug("peripherals")
+                .iconUrl("https://example.com/icons/peripherals.png")
+                .active(true)
+                .build()).getId();
+    }
+
+    @Test
+    void shouldImportJsonAndReportRejectedRows() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10; i++) {
+            json.append(row("Imported Mouse " + i, "19.90", "5", categoryId)).append(',');
+        }
+        json.append(row("", "19.90", "5", categoryId)).append(',');
+        json.append(row("Negative Stock", "19.90", "-1", categoryId)).append(',');
+        json.append(row("Orphan", "19.90", "5", UUID.randomUUID())).append(',');
+        json.append("{\"name\":\"Bad Price\",\"price\":\"abc\"}");
+        json.append(']');
+
+        ProductImportResponse result = productImportService.importJson(stream(json.toString()));
+
+        assertThat(result.getTotal()).isEqualTo(14);
+        assertThat(result.getImported()).isEqualTo(10);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(ProductImportResponse.RowError::getRow).containsExactly(11L, 12L, 13L, 14L);
+        assertThat(result.getErrors().get(2).getMessage()).contains("not found");
+
+        List<Product> products = productRepository.findAll();
+        assertThat(products).hasSize(10);
+        assertThat(products).allSatisfy(product -> {
+            assertThat(product.isActive()).isTrue();
+            assertThat(product.getSlug()).startsWith("imported-mouse-");
+            assertThat(product.getCreatedAt()).isNotNull();
+        });
+        assertThat(products).extracting(Product::getSlug).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldImportCsvAndUpdateSearchIndexes() throws Exception {
+        String csv = "name,description,price,stock,imageUrl,categoryId\n"
+                + "Trackball Classic,\"Thumb-operated, wired\",49.90,3,https://example.com/images/t.jpg," + categoryId + "\n"
+                + "Trackball Wireless,,59.90,2,https://example.com/images/t.jpg," + categoryId + "\n"
+                + "Trackball Broken,,,2,https://example.com/images/t.jpg," + categoryId + "\n";
+
+        ProductImportResponse result = productImportService.importCsv(stream(csv));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getRow()).isEqualTo(3));
+
+        assertThat(productService.findPublicProducts(ProductFilterRequest.of("trackball", null, null, null, null),
+                PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+    }
+
+    private static String row(String name, String price, String stock, UUID category) {
+        return "{\"name\":\"" + name + "\",\"description\":\"Imported\",\"price\":" + price + ",\"stock\":" + stock
+                + ",\"imageUrl\":\"https://example.com/images/product.jpg\",\"categoryId\":\"" + category + "\"}";
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
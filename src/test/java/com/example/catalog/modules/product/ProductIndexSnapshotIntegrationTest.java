@@ -0,0 +1,114 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.model.ProductSnapshot;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.search.ProductIndexLoader;
+import com.example.catalog.module.product.search.ProductIndexSnapshot;
+import com.example.catalog.module.product.search.ProductNameIndex;
+import com.example.catalog.module.product.search.ProductSearchIndex;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "catalog.search.snapshot.enabled=true",
+        "catalog.search.snapshot.replay-overlap=0s"
+})
+class ProductIndexSnapshotIntegrationTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("catalog.search.snapshot.path", () -> directory.resolve("catalog-index.snapshot").toString());
+    }
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductIndexSnapshot productIndexSnapshot;
+
+    @Autowired
+    private ProductIndexLoader productIndexLoader;
+
+    @Autowired
+    private ProductNameIndex productNameIndex;
+
+    @Autowired
+    private List<ProductSearchIndex> indexes;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+    }
+
+    @Test
+    void shouldRoundTripActiveProducts() {
+        productService.save(request("Wireless Mouse", categoryId));
+        productService.save(new ProductRequest("Mechanical Keyboard", "Hot-swappable, a\u00e7a\u00ed edition", new BigDecimal("89.90"), 0,
+                "https://example.com/images/keyboard.jpg", categoryId));
+        productIndexSnapshot.write();
+
+        List<ProductSnapshot> expected = transactionTemplate.execute(status -> {
+            try (Stream<ProductSnapshot> products = productRepository.streamActiveSnapshots()) {
+                return products.sorted(Comparator.comparing(ProductSnapshot::id)).toList();
+            }
+        });
+        ProductIndexSnapshot.Reader reader = productIndexSnapshot.open().orElseThrow();
+
+        assertThat(reader.count()).isEqualTo(2);
+        assertThat(reader.products().sorted(Comparator.comparing(ProductSnapshot::id)).toList()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldLoadFromSnapshotAndReplayLaterWrites() {
+        ProductResponse kept = productService.save(request("Wireless Mouse", categoryId));
+        ProductResponse deleted = productService.save(request("Wireless Headset", categoryId));
+        productIndexSnapshot.write();
+
+        ProductResponse added = productService.save(request("Wireless Keyboard", categoryId));
+        productService.delete(deleted.getId());
+        indexes.forEach(index -> index.load(Stream.empty()));
+        assertThat(productNameIndex.match("wireless")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+
+        productIndexLoader.load();
+
+        assertThat(productNameIndex.match("wireless"))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(kept.getId(), added.getId()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.search.ProductNameIndex;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductNameIndexIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductNameIndex productNameIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        productNameIndex.rebuild();
+
+        Category category = categoryRepository.save(Category.builder()
+                .name("Peripherals")
+                .slug("peripherals")
+                .iconUrl("https://example.com/icons/peripherals.png")
+                .active(true)
+                .build());
+        categoryId = category.getId();
+    }
+
+    @Test
+    void shouldResolveNameFilterThroughIndex() {
+        ProductResponse mouse = productService.save(request("Wireless Mouse"));
+        productService.save(request("Mechanical Keyboard"));
+
+        assertThat(productNameIndex.match("MOUSE")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(mouse.getId()));
+
+        Page<ProductSummaryDto> page = transactionTemplate.execute(status -> productService.findPublicProducts(
+                ProductFilterRequest.of("less mo", null, null, null, null),
+                PageRequest.of(0, 10, Sort.by("name"))));
+
+        assertThat(page.getContent()).extracting(ProductSummaryDto::getName).containsExactly("Wireless Mouse");
+    }
+
+    @Test
+    void shouldReflectUpdatesAndSoftDeletes() {
+        ProductResponse product = productService.save(request("Wireless Mouse"));
+
+        productService.update(product.getId(), request("Gaming Headset"));
+        assertThat(productNameIndex.match("mouse")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(productNameIndex.match("headset")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(product.getId()));
+
+        productService.delete(product.getId());
+        assertThat(productNameIndex.match("headset")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    void shouldFallBackToSqlForShortTerms() {
+        productService.save(request("Wireless Mouse"));
+
+        assertThat(productNameIndex.match("mo")).isEmpty();
+
+        Page<ProductResponse> page = transactionTemplate.execute(status -> productService.filterActiveProducts(
+                ProductFilterRequest.of("mo", null, null, null, null),
+                PageRequest.of(0, 10, Sort.by("name"))));
+
+        assertThat(page.getContent()).extracting(ProductResponse::getName).containsExactly("Wireless Mouse");
+    }
+
+    private ProductRequest request(String name) {
+        return new ProductRequest(name, "Test product", new BigDecimal("29.99"), 10,
+                "https://example.com/images/product.jpg", categoryId);
+    }
+}
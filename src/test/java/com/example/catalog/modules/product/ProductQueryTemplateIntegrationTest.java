@@ -0,0 +1,106 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.example.catalog.module.product.spec.ProductQueryTemplate;
+import com.example.catalog.module.product.spec.ProductSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "catalog.cache.refresh.enabled=false")
+class ProductQueryTemplateIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private UUID keyboards;
+
+    @BeforeEach
+    void setup() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        keyboards = category("Keyboards");
+        UUID mice = category("Mice");
+        for (int i = 0; i < 20; i++) {
+            productService.save(new ProductRequest((i % 2 == 0 ? "Keyboard " : "Mouse ") + i, "Test product",
+                    new BigDecimal(10 + (i % 7) * 5), i % 6, "https://example.com/images/product.jpg",
+                    i % 3 == 0 ? mice : keyboards));
+        }
+    }
+
+    @Test
+    void shouldMatchSpecificationForEveryFilterCombination() {
+        List<Pageable> pages = List.of(
+                PageRequest.of(0, 4),
+                PageRequest.of(1, 4, Sort.by("price").and(Sort.by("id"))),
+                PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "stock").and(Sort.by(Sort.Direction.DESC, "id"))));
+
+        for (int mask = 0; mask < 32; mask++) {
+            ProductFilterRequest filters = ProductFilterRequest.of(
+                    (mask & 1) != 0 ? "KEY" : null,
+                    (mask & 2) != 0 ? 15.0 : null,
+                    (mask & 4) != 0 ? 35.0 : null,
+                    (mask & 8) != 0 ? 2 : null,
+                    (mask & 16) != 0 ? keyboards : null);
+            ProductQueryTemplate template = ProductQueryTemplate.of(filters, null);
+
+            for (Pageable pageable : pages) {
+                Pageable templatePage = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                        pageable.getSort().isSorted() ? Sort.by(pageable.getSort().iterator().next()) : Sort.unsorted());
+                Page<ProductSummaryDto> expected = productRepository.findSummaries(
+                        ProductSpecification.filterBy(filters), pageable);
+                Page<ProductSummaryDto> actual = productRepository.findSummaries(
+                        template, templatePage, () -> productRepository.countMatching(template));
+
+                assertThat(actual.getTotalElements()).as("mask %d", mask).isEqualTo(expected.getTotalElements());
+                if (pageable.getSort().isSorted()) {
+                    assertThat(actual.map(ProductSummaryDto::getId).getContent()).as("mask %d %s", mask, pageable)
+                            .isEqualTo(expected.map(ProductSummaryDto::getId).getContent());
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldOnlySupportSingleWhitelistedSort() {
+        assertThat(ProductQueryTemplate.supports(Sort.unsorted())).isTrue();
+        assertThat(ProductQueryTemplate.supports(Sort.by(Sort.Direction.DESC, "createdAt"))).isTrue();
+        assertThat(ProductQueryTemplate.supports(Sort.by("category.name"))).isFalse();
+        assertThat(ProductQueryTemplate.supports(Sort.by("price", "name"))).isFalse();
+    }
+
+    private UUID category(String name) {
+        return categoryRepository.save(Category.builder()
+                .name(name)
+                .slug(name.toLowerCase())
+                .iconUrl("https://example.com/icons/" + name.toLowerCase() + ".png")
+                .active(true)
+                .build()).getId();
+    }
+}
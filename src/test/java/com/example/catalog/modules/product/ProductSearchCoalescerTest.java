@@ -0,0 +1,102 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.product.cache.ProductSearchCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductSearchCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRunIdenticalConcurrentSearchesOnce() throws Exception {
+        ProductSearchCoalescer coalescer = new ProductSearchCoalescer(registry, true, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> coalescer.execute("mice-page-0", () -> {
+                    runs.incrementAndGet();
+                    await(release);
+                    return "page";
+                })));
+            }
+
+            while (count("collapsed") < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(runs).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("collapsed")).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void shouldRunSearchItselfWhenLeaderIsTooSlow() throws Exception {
+        ProductSearchCoalescer coalescer = new ProductSearchCoalescer(registry, true, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.execute("key", () -> {
+                await(release);
+                return "leader";
+            }));
+            while (count("leader") < 1) {
+                Thread.sleep(5);
+            }
+
+            assertThat(coalescer.execute("key", () -> "own")).isEqualTo("own");
+            assertThat(count("timeout")).isEqualTo(1);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotKeepFailedSearchesInFlight() {
+        ProductSearchCoalescer coalescer = new ProductSearchCoalescer(registry, true, Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> coalescer.execute("key", () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(coalescer.execute("key", () -> "retry")).isEqualTo("retry");
+    }
+
+    private double count(String outcome) {
+        return registry.get("catalog.search.coalescing").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.config.cache.CacheConfig;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.cache.ProductSearchPageCache;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.catalog.modules.product.ProductTestFactory.createCategory;
+import static com.example.catalog.modules.product.ProductTestFactory.deleteCatalog;
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "catalog.cache.search-pages.max-pages=2")
+class ProductSearchPageCacheIntegrationTest {
+
+    @Autowired
+    private ProductSearchPageCache productSearchPageCache;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private UUID mice;
+    private UUID keyboards;
+
+    @BeforeEach
+    void setup() {
+        deleteCatalog(productRepository, categoryRepository);
+        cacheManager.getCache(CacheConfig.PUBLIC_SEARCH_PAGES).clear();
+        mice = createCategory(categoryRepository, "Mice");
+        keyboards = createCategory(categoryRepository, "Keyboards");
+    }
+
+    @Test
+    void shouldServeStoredBytesForEquivalentSearches() {
+        ProductSearchPageCache.CachedPage first = get(ProductFilterRequest.of("Mouse", null, null, null, mice), firstPage());
+        ProductSearchPageCache.CachedPage second = get(ProductFilterRequest.of("mouse", null, null, null, mice), firstPage());
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).startsWith("{");
+        assertThat(loads).hasValue(1);
+
+        get(ProductFilterRequest.of(null, null, null, null, mice), PageRequest.of(5, 12, Sort.by("name")));
+        get(ProductFilterRequest.of(null, null, null, null, mice), PageRequest.of(5, 12, Sort.by("name")));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldInvalidateOnlyAffectedCategories() {
+        UUID keyboard = productService.save(request("Keyboard", keyboards)).getId();
+        ProductFilterRequest miceOnly = ProductFilterRequest.of(null, null, null, null, mice);
+        ProductFilterRequest keyboardsOnly = ProductFilterRequest.of(null, null, null, null, keyboards);
+        ProductFilterRequest everything = ProductFilterRequest.of(null, null, null, null, null);
+        get(miceOnly, firstPage());
+        get(keyboardsOnly, firstPage());
+        get(everything, firstPage());
+        loads.set(0);
+
+        productService.save(request("Another Keyboard", keyboards));
+        get(miceOnly, firstPage());
+        get(keyboardsOnly, firstPage());
+        get(everything, firstPage());
+        assertThat(loads).hasValue(2);
+
+        loads.set(0);
+        productService.update(keyboard, request("Keyboard Mouse", mice));
+        get(miceOnly, firstPage());
+        get(keyboardsOnly, firstPage());
+        assertThat(loads).hasValue(2);
+    }
+
+    private ProductSearchPageCache.CachedPage get(ProductFilterRequest filters, Pageable pageable) {
+        return productSearchPageCache.get(ProductSearchPageCache.Key.of(filters, pageable, null), () -> {
+            loads.incrementAndGet();
+            return productService.findPublicProducts(filters, pageable);
+        });
+    }
+
+    private static Pageable firstPage() {
+        return PageRequest.of(0, 12, Sort.by("name"));
+    }
+}
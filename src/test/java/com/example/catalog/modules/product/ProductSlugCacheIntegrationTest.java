@@ -0,0 +1,93 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.config.cache.CacheConfig;
+import com.example.catalog.exception.ResourceNotFoundException;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductSlugCacheIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+        cacheManager.getCache(CacheConfig.PRODUCTS_BY_SLUG).clear();
+    }
+
+    @Test
+    void shouldServeCachedProductAndEvictAfterUpdateCommits() {
+        UUID id = productService.save(request("Wireless Mouse", categoryId)).getId();
+        String slug = productRepository.findById(id).orElseThrow().getSlug();
+
+        ProductResponse first = findBySlug(slug);
+        assertThat(findBySlug(slug)).isSameAs(first);
+
+        productService.update(id, request("Wireless Mouse Pro", categoryId));
+
+        assertThat(findBySlug(slug).getName()).isEqualTo("Wireless Mouse Pro");
+    }
+
+    @Test
+    void shouldKeepEntryWhenUpdateRollsBack() {
+        UUID id = productService.save(request("Wireless Mouse", categoryId)).getId();
+        String slug = productRepository.findById(id).orElseThrow().getSlug();
+        ProductResponse cached = findBySlug(slug);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.update(id, request("Never Committed", categoryId));
+            status.setRollbackOnly();
+        });
+
+        assertThat(findBySlug(slug)).isSameAs(cached);
+        assertThat(cached.getName()).isEqualTo("Wireless Mouse");
+    }
+
+    @Test
+    void shouldEvictAfterSoftDelete() {
+        UUID id = productService.save(request("Wireless Mouse", categoryId)).getId();
+        String slug = productRepository.findById(id).orElseThrow().getSlug();
+        findBySlug(slug);
+
+        productService.delete(id);
+
+        assertThatThrownBy(() -> findBySlug(slug)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private ProductResponse findBySlug(String slug) {
+        return transactionTemplate.execute(status -> productService.findPublicBySlug(slug));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.auth.model.Role;
+import com.example.catalog.module.auth.model.User;
+import com.example.catalog.module.auth.repository.UserRepository;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.order.dto.response.OrderResponseDTO;
+import com.example.catalog.module.order.dto.resquest.OrderItemRequestDTO;
+import com.example.catalog.module.order.dto.resquest.OrderRequestDTO;
+import com.example.catalog.module.order.model.Order;
+import com.example.catalog.module.order.model.OrderItem;
+import com.example.catalog.module.order.repository.OrderRepository;
+import com.example.catalog.module.order.service.OrderService;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.dto.response.ProductSuggestion;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.search.ProductSuggestIndex;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductSuggestIndexIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSuggestIndex productSuggestIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        orderRepository.deleteAll();
+        categoryId = resetCatalog(productRepository, categoryRepository);
+        productSuggestIndex.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        orderRepository.deleteAll();
+        userRepository.findByEmail("suggest@example.com").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldCompleteNamesAndWordsMostSoldFirst() {
+        ProductResponse mouse = productService.save(request("Wireless Mouse", categoryId));
+        ProductResponse pad = productService.save(request("Mouse Pad", categoryId));
+        productService.save(request("Mechanical Keyboard", categoryId));
+        order(pad, 5);
+        order(mouse, 2);
+        productSuggestIndex.rebuild();
+
+        assertThat(productSuggestIndex.suggest("MOU", 10))
+                .extracting(ProductSuggestion::getName)
+                .containsExactly("Mouse Pad", "Wireless Mouse");
+        assertThat(productSuggestIndex.suggest("m", 1))
+                .extracting(ProductSuggestion::getId)
+                .containsExactly(pad.getId());
+        assertThat(productSuggestIndex.suggest("mouse pads", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldSplitAndMergeSharedPrefixes() {
+        ProductResponse trap = productService.save(request("Mousetrap", categoryId));
+        ProductResponse pad = productService.save(request("Mouse Pad", categoryId));
+        ProductResponse mouse = productService.save(request("Mouse", categoryId));
+
+        assertThat(productSuggestIndex.suggest("mouse", 10)).extracting(ProductSuggestion::getId)
+                .containsExactly(mouse.getId(), pad.getId(), trap.getId());
+        assertThat(productSuggestIndex.suggest("mouset", 10)).extracting(ProductSuggestion::getId)
+                .containsExactly(trap.getId());
+        assertThat(productSuggestIndex.suggest("mouse p", 10)).extracting(ProductSuggestion::getId)
+                .containsExactly(pad.getId());
+
+        productService.delete(pad.getId());
+        assertThat(productSuggestIndex.suggest("mouse p", 10)).isEmpty();
+        assertThat(productSuggestIndex.suggest("pa", 10)).isEmpty();
+
+        productService.delete(mouse.getId());
+        assertThat(productSuggestIndex.suggest("mo", 10)).extracting(ProductSuggestion::getId)
+                .containsExactly(trap.getId());
+        assertThat(productSuggestIndex.suggest("mousetrap", 10)).extracting(ProductSuggestion::getId)
+                .containsExactly(trap.getId());
+        assertThat(productSuggestIndex.suggest("mousetraps", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReRankAsOrdersAreHandled() {
+        ProductResponse mouse = productService.save(request("Wireless Mouse", categoryId));
+        ProductResponse pad = productService.save(request("Mouse Pad", categoryId));
+        user();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("suggest@example.com", null, List.of()));
+        try {
+            orderService.createOrder(new OrderRequestDTO(List.of(new OrderItemRequestDTO(mouse.getId(), 1))));
+            assertThat(productSuggestIndex.suggest("mou", 10)).extracting(ProductSuggestion::getId)
+                    .containsExactly(mouse.getId(), pad.getId());
+
+            OrderResponseDTO padOrder = orderService.createOrder(
+                    new OrderRequestDTO(List.of(new OrderItemRequestDTO(pad.getId(), 3))));
+            assertThat(productSuggestIndex.suggest("mou", 10)).extracting(ProductSuggestion::getId)
+                    .containsExactly(pad.getId(), mouse.getId());
+
+            orderService.cancelOrder(padOrder.getId());
+            assertThat(productSuggestIndex.suggest("mou", 10)).extracting(ProductSuggestion::getId)
+                    .containsExactly(mouse.getId(), pad.getId());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void shouldReflectSavesUpdatesAndSoftDeletes() {
+        ProductResponse product = productService.save(request("Wireless Mouse", categoryId));
+        assertThat(productSuggestIndex.suggest("wire", 10)).extracting(ProductSuggestion::getId).containsExactly(product.getId());
+
+        productService.update(product.getId(), request("Gaming Headset", categoryId));
+        assertThat(productSuggestIndex.suggest("wire", 10)).isEmpty();
+        assertThat(productSuggestIndex.suggest("head", 10)).extracting(ProductSuggestion::getName).containsExactly("Gaming Headset");
+
+        productService.delete(product.getId());
+        assertThat(productSuggestIndex.suggest("g", 10)).isEmpty();
+    }
+
+    private User user() {
+        return userRepository.findByEmail("suggest@example.com").orElseGet(() -> userRepository.save(User.builder()
+                .name("Suggest")
+                .email("suggest@example.com")
+                .password("secret")
+                .role(Role.CUSTOMER)
+                .build()));
+    }
+
+    private void order(ProductResponse product, int quantity) {
+        User user = user();
+        Order order = Order.builder().user(user).items(new ArrayList<>()).build();
+        order.getItems().add(OrderItem.builder()
+                .order(order)
+                .product(productRepository.getReferenceById(product.getId()))
+                .quantity(quantity)
+                .unitPrice(product.getPrice())
+                .build());
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.request.ProductRequest;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductSummaryQueryCountTest {
+
+    private static final int PRODUCTS = 30;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setup() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        for (int c = 0; c < 3; c++) {
+            Category category = categoryRepository.save(Category.builder()
+                    .name("Category " + c)
+                    .slug("category-" + c)
+                    .iconUrl("https://example.com/icons/" + c + ".png")
+                    .active(true)
+                    .build());
+
+            for (int i = 0; i < PRODUCTS / 3; i++) {
+                productService.save(new ProductRequest("Product " + c + "-" + i, "Test product",
+                        new BigDecimal("10.00"), 5, "https://example.com/images/product.jpg", category.getId()));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 10, 20})
+    void shouldIssueOneDataQueryAndOneCountQueryPerPage(int size) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ProductSummaryDto> page = productService.findPublicProducts(
+                ProductFilterRequest.of(null, null, null, null, null),
+                PageRequest.of(0, size, Sort.by("name")));
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getTotalElements()).isEqualTo(PRODUCTS);
+        assertThat(page.getContent()).allSatisfy(summary -> assertThat(summary.getCategoryName()).startsWith("Category "));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
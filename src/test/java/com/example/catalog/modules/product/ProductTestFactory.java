@@ -1,10 +1,15 @@
 package com.example.catalog.modules.product;
 
+import com.example.catalog.module.category.model.Category;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductRequest;
 import com.example.catalog.module.product.model.Product;
+import com.example.catalog.module.product.repository.ProductRepository;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -22,4 +27,39 @@ public class ProductTestFactory {
     public static Product createDefault() {
         return create("Default Product", new BigDecimal("10.00"), 5);
     }
+
+    public static ProductRequest request(String name, UUID categoryId) {
+        return request(name, new BigDecimal("29.99"), 10, categoryId);
+    }
+
+    public static ProductRequest request(String name, BigDecimal price, int stock, UUID categoryId) {
+        return new ProductRequest(name, "Test product", price, stock, "https://example.com/images/product.jpg", categoryId);
+    }
+
+    public static ProductRequest request(String name, String description, String price, UUID categoryId) {
+        return new ProductRequest(name, description, new BigDecimal(price), 10,
+                "https://example.com/images/product.jpg", categoryId);
+    }
+
+    public static UUID createCategory(CategoryRepository categoryRepository, String name) {
+        return categoryRepository.save(Category.builder()
+                .name(name)
+                .slug(name.toLowerCase())
+                .iconUrl("https://example.com/icons/" + name.toLowerCase() + ".png")
+                .active(true)
+                .build()).getId();
+    }
+
+    public static void deleteCatalog(ProductRepository productRepository, CategoryRepository categoryRepository) {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    /**
+     * Empties the catalog and creates the "Peripherals" category most tests file products under.
+     */
+    public static UUID resetCatalog(ProductRepository productRepository, CategoryRepository categoryRepository) {
+        deleteCatalog(productRepository, categoryRepository);
+        return createCategory(categoryRepository, "Peripherals");
+    }
 }
@@ -0,0 +1,152 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.exception.BadRequestException;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.response.ProductResponse;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.search.ProductTextIndex;
+import com.example.catalog.module.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static com.example.catalog.modules.product.ProductTestFactory.resetCatalog;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "catalog.cache.refresh.enabled=false",
+        "catalog.search.text.max-hits=3"
+})
+class ProductTextSearchIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductTextIndex productTextIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() {
+        categoryId = resetCatalog(productRepository, categoryRepository);
+        productTextIndex.rebuild();
+    }
+
+    @Test
+    void shouldRankHitsByRelevanceWithinFilters() {
+        productService.save(request("Mechanical Keyboard", "Hot-swappable switches, pairs well with any mouse", "89.99", categoryId));
+        productService.save(request("Mouse Pad", "Large pad for any mouse", "9.99", categoryId));
+        productService.save(request("Wireless Mouse", "Ergonomic mouse with silent clicks", "19.99", categoryId));
+
+        assertThat(names(search("silent mouse", null, 0, 10)))
+                .containsExactly("Wireless Mouse", "Mouse Pad", "Mechanical Keyboard");
+        assertThat(names(search("silent mouse", 15.0, 0, 10)))
+                .containsExactly("Wireless Mouse", "Mechanical Keyboard");
+
+        Page<ProductSummaryDto> second = search("silent mouse", null, 1, 2);
+        assertThat(second.getTotalElements()).isEqualTo(3);
+        assertThat(names(second)).containsExactly("Mechanical Keyboard");
+    }
+
+    @Test
+    void shouldSearchDescriptionsAndFollowWrites() {
+        ProductResponse product = productService.save(request("Mechanical Keyboard", "Hot-swappable switches", "89.99", categoryId));
+
+        ProductFilterRequest filters = filters("SWITCHES", null);
+        assertThat(names(productService.findPublicProducts(filters, PageRequest.of(0, 10, Sort.by("name")))))
+                .containsExactly("Mechanical Keyboard");
+
+        productService.update(product.getId(), request("Mechanical Keyboard", "Linear keys", "89.99", categoryId));
+        assertThat(names(search("switches", null, 0, 10))).isEmpty();
+        assertThat(names(search("linear", null, 0, 10))).containsExactly("Mechanical Keyboard");
+
+        productService.delete(product.getId());
+        assertThat(names(search("linear", null, 0, 10))).isEmpty();
+    }
+
+    @Test
+    void shouldFallBackToSqlWhenHitsExceedMaxHits() {
+        productService.save(request("Wireless Mouse", "Ergonomic mouse with silent clicks", "19.99", categoryId));
+        productService.save(request("Gaming Mouse", "Mouse with extra buttons", "49.99", categoryId));
+        productService.save(request("Mouse Pad", "Large pad", "9.99", categoryId));
+        productService.save(request("Mechanical Keyboard", "Pairs well with any mouse", "89.99", categoryId));
+        productService.save(request("Trackball", "Thumb-operated mouse", "59.99", categoryId));
+
+        Page<ProductSummaryDto> ranked = search("mouse", 20.0, 0, 10);
+        assertThat(ranked.getTotalElements()).isEqualTo(3);
+        assertThat(names(ranked)).containsExactlyInAnyOrder("Gaming Mouse", "Mechanical Keyboard", "Trackball");
+        assertThatThrownBy(() -> search("mouse", 15.0, 0, 10)).isInstanceOf(BadRequestException.class);
+
+        Page<ProductSummaryDto> byPrice = productService.findPublicProducts(filters("mouse", 15.0),
+                PageRequest.of(0, 10, Sort.by("price")));
+        assertThat(names(byPrice)).containsExactly("Wireless Mouse", "Gaming Mouse", "Trackball", "Mechanical Keyboard");
+
+        Page<ProductSummaryDto> anyTerm = productService.findPublicProducts(filters("trackball mouse", 15.0),
+                PageRequest.of(0, 10, Sort.by("price")));
+        assertThat(names(anyTerm)).containsExactly("Wireless Mouse", "Gaming Mouse", "Trackball", "Mechanical Keyboard");
+    }
+
+    @Test
+    void shouldApplyNameFilterAlongsideQuery() {
+        productService.save(request("Wireless Mouse", "Ergonomic mouse with silent clicks", "19.99", categoryId));
+        productService.save(request("Mouse Pad", "Large pad for any mouse", "9.99", categoryId));
+
+        ProductFilterRequest indexed = filters("mouse", null);
+        indexed.setName("pad");
+        assertThat(names(productService.findPublicProducts(indexed, PageRequest.of(0, 10, Sort.by("relevance")))))
+                .containsExactly("Mouse Pad");
+        assertThat(names(productService.findPublicProducts(indexed, PageRequest.of(0, 10, Sort.by("name")))))
+                .containsExactly("Mouse Pad");
+
+        productService.save(request("Gaming Mouse", "Mouse with extra buttons", "49.99", categoryId));
+        productService.save(request("Trackball", "Thumb-operated mouse", "59.99", categoryId));
+
+        ProductFilterRequest fallback = filters("mouse", null);
+        fallback.setName("wireless");
+        assertThat(names(productService.findPublicProducts(fallback, PageRequest.of(0, 10, Sort.by("relevance")))))
+                .containsExactly("Wireless Mouse");
+        assertThat(names(productService.findPublicProducts(fallback, PageRequest.of(0, 10, Sort.by("price")))))
+                .containsExactly("Wireless Mouse");
+    }
+
+    @Test
+    void shouldRequireQueryForRelevanceSort() {
+        assertThatThrownBy(() -> productService.findPublicProducts(ProductFilterRequest.of(null, null, null, null, null),
+                PageRequest.of(0, 10, Sort.by("relevance"))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Page<ProductSummaryDto> search(String text, Double minPrice, int page, int size) {
+        return productService.findPublicProducts(filters(text, minPrice), PageRequest.of(page, size, Sort.by("relevance")));
+    }
+
+    private static ProductFilterRequest filters(String text, Double minPrice) {
+        ProductFilterRequest filters = ProductFilterRequest.of(null, minPrice, null, null, null);
+        filters.setText(text);
+        return filters;
+    }
+
+    private static List<String> names(Page<ProductSummaryDto> page) {
+        return page.map(ProductSummaryDto::getName).getContent();
+    }
+}
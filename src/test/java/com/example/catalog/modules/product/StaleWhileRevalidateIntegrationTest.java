@@ -0,0 +1,115 @@
+package com.example.catalog.modules.product;
+
+import com.example.catalog.module.category.dto.response.CategoryResponse;
+import com.example.catalog.module.category.repository.CategoryRepository;
+import com.example.catalog.module.category.service.CategoryService;
+import com.example.catalog.module.product.dto.request.ProductFilterRequest;
+import com.example.catalog.module.product.dto.response.ProductSummaryDto;
+import com.example.catalog.module.product.repository.ProductRepository;
+import com.example.catalog.module.product.service.ProductService;
+import com.example.catalog.module.product.service.ProductStockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.example.catalog.modules.product.ProductTestFactory.createCategory;
+import static com.example.catalog.modules.product.ProductTestFactory.deleteCatalog;
+import static com.example.catalog.modules.product.ProductTestFactory.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "catalog.cache.refresh.enabled=true",
+        "catalog.cache.refresh.soft-ttl=200ms",
+        "catalog.cache.refresh.hard-ttl=30s"
+})
+class StaleWhileRevalidateIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        deleteCatalog(productRepository, categoryRepository);
+    }
+
+    @Test
+    void shouldServeStaleCategoriesWhileRefreshingInBackground() throws Exception {
+        createCategory(categoryRepository, "Mice");
+        List<CategoryResponse> first = categoryService.findAllPublic();
+
+        // Written behind the service's back, so only a refresh can pick it up.
+        createCategory(categoryRepository, "Keyboards");
+        assertThat(categoryService.findAllPublic()).isSameAs(first);
+
+        // Past the soft TTL the read triggers a background reload; the stale list may still be returned meanwhile.
+        Thread.sleep(300);
+        categoryService.findAllPublic();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<CategoryResponse> refreshed = first;
+        while (refreshed == first && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            refreshed = categoryService.findAllPublic();
+        }
+        assertThat(refreshed).extracting(CategoryResponse::getName).containsExactlyInAnyOrder("Mice", "Keyboards");
+    }
+
+    @Test
+    void shouldReloadSearchesAffectedByAProductWrite() throws Exception {
+        UUID categoryId = createCategory(categoryRepository, "Mice");
+        UUID otherCategoryId = createCategory(categoryRepository, "Keyboards");
+        productService.save(request("Mouse Basic", categoryId));
+        ProductFilterRequest filters = ProductFilterRequest.of("mouse", null, null, null, null);
+        ProductFilterRequest otherCategory = ProductFilterRequest.of("mouse", null, null, null, otherCategoryId);
+
+        assertThat(productService.findPublicProducts(filters, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        Page<ProductSummaryDto> unaffected = productService.findPublicProducts(otherCategory, PageRequest.of(0, 10));
+        productService.save(request("Mouse Pro", categoryId));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        long total = 1;
+        while (total == 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            total = productService.findPublicProducts(filters, PageRequest.of(0, 10)).getTotalElements();
+        }
+        assertThat(total).isEqualTo(2);
+        assertThat(productService.findPublicProducts(otherCategory, PageRequest.of(0, 10))).isSameAs(unaffected);
+    }
+
+    @Test
+    void shouldLoadStockFilteredSearchesAfterStockMoves() {
+        UUID categoryId = createCategory(categoryRepository, "Mice");
+        UUID productId = productService.save(request("Mouse Basic", categoryId)).getId();
+        ProductFilterRequest inStock = ProductFilterRequest.of("mouse", null, null, 5, null);
+        assertThat(productService.findPublicProducts(inStock, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> productStockService.reserve(Map.of(productId, 8)));
+
+        assertThat(productService.findPublicProducts(inStock, PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+}